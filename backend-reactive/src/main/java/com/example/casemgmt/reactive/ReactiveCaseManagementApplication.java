@@ -0,0 +1,13 @@
+package com.example.casemgmt.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveCaseManagementApplication {
+    
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveCaseManagementApplication.class, args);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.casemgmt.reactive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Runs the Netty server on a fixed pool of {@code casemgmt.reactive.event-loop-threads} event
+ * loops named {@code case-http-*}, instead of Reactor's global pool sized by CPU count, so the
+ * thread count stays the same however many clients are connected and whatever host it runs on.
+ */
+@Configuration
+public class EventLoopConfig {
+    
+    @Bean
+    public ReactorResourceFactory reactorResourceFactory(@Value("${casemgmt.reactive.event-loop-threads:4}") int threads) {
+        ReactorResourceFactory factory = new ReactorResourceFactory();
+        factory.setUseGlobalResources(false);
+        factory.setLoopResourcesSupplier(() -> LoopResources.create("case-http", threads, true));
+        return factory;
+    }
+}
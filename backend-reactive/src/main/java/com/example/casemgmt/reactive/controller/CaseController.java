@@ -0,0 +1,168 @@
+package com.example.casemgmt.reactive.controller;
+
+import com.example.casemgmt.reactive.dto.CaseDto;
+import com.example.casemgmt.reactive.model.CaseStatus;
+import com.example.casemgmt.reactive.service.CaseChangeFeed;
+import com.example.casemgmt.reactive.service.CaseConflictException;
+import com.example.casemgmt.reactive.service.CaseService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * The servlet backend's core {@code /api/cases} contract (list, lookup, create, update and the
+ * change stream) served on a few Netty event loops. Lists are streamed as they are read, as a
+ * JSON array or, with {@code Accept: application/x-ndjson}, one case per line.
+ */
+@RestController
+@RequestMapping("/api/cases")
+@CrossOrigin(origins = "http://localhost:3000")
+public class CaseController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CaseController.class);
+    
+    @Autowired
+    private CaseService caseService;
+    
+    @Autowired
+    private CaseChangeFeed caseChangeFeed;
+    
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CaseDto> getAllCases(
+            @RequestParam(required = false) CaseStatus status,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String owner,
+            @RequestParam(required = false) String bank,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo) {
+        return caseService.getCasesByFilters(status, type, owner, bank, dateFrom, dateTo)
+                .doOnError(e -> logger.error("Error streaming cases", e));
+    }
+    
+    /**
+     * Server-Sent Events feed of case changes, one event per created or updated case named by
+     * its type. An {@code overflow} event means this client fell behind and missed that many
+     * changes, and should reload.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> streamCaseChanges() {
+        try {
+            return ResponseEntity.ok(caseChangeFeed.subscribe());
+        } catch (IllegalStateException e) {
+            logger.warn("Rejecting case stream subscriber: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
+    @GetMapping("/{caseId}")
+    public Mono<ResponseEntity<CaseDto>> getCase(@PathVariable String caseId) {
+        return caseService.getCaseById(caseId)
+                .map(caseDto -> ResponseEntity.ok().eTag(eTag(caseDto)).body(caseDto))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.warn("Case not found: {}", caseId);
+                    return ResponseEntity.notFound().build();
+                }))
+                .onErrorResume(e -> {
+                    logger.error("Error retrieving case: {}", caseId, e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
+    }
+    
+    @PostMapping
+    public Mono<ResponseEntity<CaseDto>> createCase(@Valid @RequestBody CaseDto caseDto) {
+        return caseService.createCase(caseDto)
+                .map(createdCase -> ResponseEntity.status(HttpStatus.CREATED).body(createdCase))
+                .onErrorResume(e -> {
+                    if (e instanceof IllegalArgumentException) {
+                        logger.warn("Invalid case data: {}", e.getMessage());
+                        return Mono.just(ResponseEntity.badRequest().build());
+                    }
+                    logger.error("Error creating case", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
+    }
+    
+    @PutMapping("/{caseId}")
+    public Mono<ResponseEntity<CaseDto>> updateCase(@PathVariable String caseId, @Valid @RequestBody CaseDto caseDto,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return applyUpdate(caseId, caseDto, ifMatch);
+    }
+    
+    /**
+     * Partial update: only the fields present in the body are changed, and concurrent writers
+     * touching other fields of the same case do not conflict with it.
+     */
+    @PatchMapping("/{caseId}")
+    public Mono<ResponseEntity<CaseDto>> patchCase(@PathVariable String caseId, @RequestBody CaseDto caseDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return applyUpdate(caseId, caseDto, ifMatch);
+    }
+    
+    private Mono<ResponseEntity<CaseDto>> applyUpdate(String caseId, CaseDto caseDto, String ifMatch) {
+        Long expectedVersion;
+        try {
+            expectedVersion = parseIfMatch(ifMatch);
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid If-Match header for case {}: {}", caseId, ifMatch);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        
+        return caseService.updateCase(caseId, caseDto, expectedVersion)
+                .map(updatedCase -> ResponseEntity.ok().eTag(eTag(updatedCase)).body(updatedCase))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.warn("Case not found for update: {}", caseId);
+                    return ResponseEntity.notFound().build();
+                }))
+                .onErrorResume(e -> {
+                    if (e instanceof CaseConflictException conflict) {
+                        logger.warn("Conflicting update of case {}: {}", caseId, e.getMessage());
+                        // With If-Match the client asked for a precondition; without it the write simply lost a race
+                        HttpStatus status = expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+                        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+                        if (conflict.getCurrentVersion() != null) {
+                            response.eTag(eTag(conflict.getCurrentVersion()));
+                        }
+                        return Mono.just(response.build());
+                    }
+                    logger.error("Error updating case: {}", caseId, e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
+    }
+    
+    private static String eTag(CaseDto caseDto) {
+        return eTag(caseDto.getVersion() != null ? caseDto.getVersion() : 0L);
+    }
+    
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+    
+    /**
+     * Reads the case version out of an If-Match header; {@code null} when absent or {@code *}.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        return Long.parseLong(tag);
+    }
+}
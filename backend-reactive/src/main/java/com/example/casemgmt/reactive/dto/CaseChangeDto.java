@@ -0,0 +1,80 @@
+package com.example.casemgmt.reactive.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in the case change feed ({@code GET /api/cases/stream}), in the same shape as the
+ * servlet backend's. Only single-case writes exist here, so {@code data} always carries the case.
+ */
+public class CaseChangeDto {
+    
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+    
+    private Type type;
+    private String caseId;
+    private Long version;
+    private CaseDto data;
+    private LocalDateTime timestamp = LocalDateTime.now();
+    
+    // Constructors
+    public CaseChangeDto() {}
+    
+    private CaseChangeDto(Type type, CaseDto caseDto) {
+        this.type = type;
+        this.caseId = caseDto.getCaseId();
+        this.version = caseDto.getVersion();
+        this.data = caseDto;
+    }
+    
+    public static CaseChangeDto created(CaseDto caseDto) {
+        return new CaseChangeDto(Type.CREATED, caseDto);
+    }
+    
+    public static CaseChangeDto updated(CaseDto caseDto) {
+        return new CaseChangeDto(Type.UPDATED, caseDto);
+    }
+    
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public String getCaseId() {
+        return caseId;
+    }
+    
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public CaseDto getData() {
+        return data;
+    }
+    
+    public void setData(CaseDto data) {
+        this.data = data;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.casemgmt.reactive.dto;
+
+import com.example.casemgmt.reactive.model.CaseStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Same JSON shape as the servlet backend's case DTO, so clients can switch between the two.
+ */
+public class CaseDto {
+    
+    private UUID id;
+    
+    @NotBlank
+    private String caseId;
+    
+    @NotBlank
+    private String type;
+    
+    @NotNull
+    private CaseStatus status;
+    
+    private LocalDateTime createdDate;
+    private LocalDateTime lastUpdatedDate;
+    
+    @NotBlank
+    private String owner;
+    private String description;
+    private List<String> attachments;
+    
+    @NotBlank
+    private String bank;
+    private BigDecimal fineAmount;
+    private String notes;
+    
+    private String complainantType;
+    private String complainantCompany;
+    private String complainantIca;
+    private String complainantCountry;
+    private String complainantRegion;
+    
+    private String acquirerPrimaryIca;
+    private String acquirerCountry;
+    private String acquirerRegion;
+    
+    private String subProgram;
+    private String overallCaseLead;
+    
+    private Long version;
+    
+    // Bit per CaseField whose setter has been called; drives partial updates
+    @JsonIgnore
+    private long presentFields;
+    
+    // Constructors
+    public CaseDto() {}
+    
+    @JsonIgnore
+    public long getPresentFields() {
+        return presentFields;
+    }
+    
+    public boolean isPresent(CaseField field) {
+        return (presentFields & field.mask()) != 0;
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public String getCaseId() {
+        return caseId;
+    }
+    
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+        presentFields |= CaseField.TYPE.mask();
+    }
+    
+    public CaseStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(CaseStatus status) {
+        this.status = status;
+        presentFields |= CaseField.STATUS.mask();
+    }
+    
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+    
+    public void setCreatedDate(LocalDateTime createdDate) {
+        this.createdDate = createdDate;
+    }
+    
+    public LocalDateTime getLastUpdatedDate() {
+        return lastUpdatedDate;
+    }
+    
+    public void setLastUpdatedDate(LocalDateTime lastUpdatedDate) {
+        this.lastUpdatedDate = lastUpdatedDate;
+    }
+    
+    public String getOwner() {
+        return owner;
+    }
+    
+    public void setOwner(String owner) {
+        this.owner = owner;
+        presentFields |= CaseField.OWNER.mask();
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+        presentFields |= CaseField.DESCRIPTION.mask();
+    }
+    
+    public List<String> getAttachments() {
+        return attachments;
+    }
+    
+    public void setAttachments(List<String> attachments) {
+        this.attachments = attachments;
+        presentFields |= CaseField.ATTACHMENTS.mask();
+    }
+    
+    public String getBank() {
+        return bank;
+    }
+    
+    public void setBank(String bank) {
+        this.bank = bank;
+        presentFields |= CaseField.BANK.mask();
+    }
+    
+    public BigDecimal getFineAmount() {
+        return fineAmount;
+    }
+    
+    public void setFineAmount(BigDecimal fineAmount) {
+        this.fineAmount = fineAmount;
+        presentFields |= CaseField.FINE_AMOUNT.mask();
+    }
+    
+    public String getNotes() {
+        return notes;
+    }
+    
+    public void setNotes(String notes) {
+        this.notes = notes;
+        presentFields |= CaseField.NOTES.mask();
+    }
+    
+    public String getComplainantType() {
+        return complainantType;
+    }
+    
+    public void setComplainantType(String complainantType) {
+        this.complainantType = complainantType;
+        presentFields |= CaseField.COMPLAINANT_TYPE.mask();
+    }
+    
+    public String getComplainantCompany() {
+        return complainantCompany;
+    }
+    
+    public void setComplainantCompany(String complainantCompany) {
+        this.complainantCompany = complainantCompany;
+        presentFields |= CaseField.COMPLAINANT_COMPANY.mask();
+    }
+    
+    public String getComplainantIca() {
+        return complainantIca;
+    }
+    
+    public void setComplainantIca(String complainantIca) {
+        this.complainantIca = complainantIca;
+        presentFields |= CaseField.COMPLAINANT_ICA.mask();
+    }
+    
+    public String getComplainantCountry() {
+        return complainantCountry;
+    }
+    
+    public void setComplainantCountry(String complainantCountry) {
+        this.complainantCountry = complainantCountry;
+        presentFields |= CaseField.COMPLAINANT_COUNTRY.mask();
+    }
+    
+    public String getComplainantRegion() {
+        return complainantRegion;
+    }
+    
+    public void setComplainantRegion(String complainantRegion) {
+        this.complainantRegion = complainantRegion;
+        presentFields |= CaseField.COMPLAINANT_REGION.mask();
+    }
+    
+    public String getAcquirerPrimaryIca() {
+        return acquirerPrimaryIca;
+    }
+    
+    public void setAcquirerPrimaryIca(String acquirerPrimaryIca) {
+        this.acquirerPrimaryIca = acquirerPrimaryIca;
+        presentFields |= CaseField.ACQUIRER_PRIMARY_ICA.mask();
+    }
+    
+    public String getAcquirerCountry() {
+        return acquirerCountry;
+    }
+    
+    public void setAcquirerCountry(String acquirerCountry) {
+        this.acquirerCountry = acquirerCountry;
+        presentFields |= CaseField.ACQUIRER_COUNTRY.mask();
+    }
+    
+    public String getAcquirerRegion() {
+        return acquirerRegion;
+    }
+    
+    public void setAcquirerRegion(String acquirerRegion) {
+        this.acquirerRegion = acquirerRegion;
+        presentFields |= CaseField.ACQUIRER_REGION.mask();
+    }
+    
+    public String getSubProgram() {
+        return subProgram;
+    }
+    
+    public void setSubProgram(String subProgram) {
+        this.subProgram = subProgram;
+        presentFields |= CaseField.SUB_PROGRAM.mask();
+    }
+    
+    public String getOverallCaseLead() {
+        return overallCaseLead;
+    }
+    
+    public void setOverallCaseLead(String overallCaseLead) {
+        this.overallCaseLead = overallCaseLead;
+        presentFields |= CaseField.OVERALL_CASE_LEAD.mask();
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.casemgmt.reactive.mapping;
+
+import com.example.casemgmt.reactive.dto.CaseDto;
+import com.example.casemgmt.reactive.dto.CaseField;
+import com.example.casemgmt.reactive.model.CaseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hand-written entity/DTO conversion. Attachments are not part of the entity; callers pass the
+ * ones read from {@code case_attachments}.
+ */
+@Component
+public class CaseMapper {
+    
+    public CaseDto toDto(CaseEntity entity, List<String> attachments) {
+        CaseDto dto = new CaseDto();
+        dto.setId(entity.getId());
+        dto.setCaseId(entity.getCaseId());
+        dto.setType(entity.getType());
+        dto.setStatus(entity.getStatus());
+        dto.setCreatedDate(entity.getCreatedDate());
+        dto.setLastUpdatedDate(entity.getLastUpdatedDate());
+        dto.setOwner(entity.getOwner());
+        dto.setDescription(entity.getDescription());
+        dto.setAttachments(attachments);
+        dto.setBank(entity.getBank());
+        dto.setFineAmount(entity.getFineAmount());
+        dto.setNotes(entity.getNotes());
+        dto.setComplainantType(entity.getComplainantType());
+        dto.setComplainantCompany(entity.getComplainantCompany());
+        dto.setComplainantIca(entity.getComplainantIca());
+        dto.setComplainantCountry(entity.getComplainantCountry());
+        dto.setComplainantRegion(entity.getComplainantRegion());
+        dto.setAcquirerPrimaryIca(entity.getAcquirerPrimaryIca());
+        dto.setAcquirerCountry(entity.getAcquirerCountry());
+        dto.setAcquirerRegion(entity.getAcquirerRegion());
+        dto.setSubProgram(entity.getSubProgram());
+        dto.setOverallCaseLead(entity.getOverallCaseLead());
+        dto.setVersion(entity.getVersion());
+        return dto;
+    }
+    
+    public CaseEntity toEntity(CaseDto dto) {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(dto.getCaseId());
+        entity.setType(dto.getType());
+        entity.setStatus(dto.getStatus());
+        entity.setOwner(dto.getOwner());
+        entity.setDescription(dto.getDescription());
+        entity.setBank(dto.getBank());
+        entity.setFineAmount(dto.getFineAmount());
+        entity.setNotes(dto.getNotes());
+        entity.setComplainantType(dto.getComplainantType());
+        entity.setComplainantCompany(dto.getComplainantCompany());
+        entity.setComplainantIca(dto.getComplainantIca());
+        entity.setComplainantCountry(dto.getComplainantCountry());
+        entity.setComplainantRegion(dto.getComplainantRegion());
+        entity.setAcquirerPrimaryIca(dto.getAcquirerPrimaryIca());
+        entity.setAcquirerCountry(dto.getAcquirerCountry());
+        entity.setAcquirerRegion(dto.getAcquirerRegion());
+        entity.setSubProgram(dto.getSubProgram());
+        entity.setOverallCaseLead(dto.getOverallCaseLead());
+        return entity;
+    }
+    
+    /**
+     * Returns the subset of the fields the client sent whose value would actually change the case,
+     * honouring the same null rules as {@link #applyPatch(CaseEntity, CaseDto, long)}.
+     * {@code attachments} are the case's current ones.
+     */
+    public long diff(CaseEntity entity, List<String> attachments, CaseDto dto) {
+        long changed = 0;
+        long remaining = dto.getPresentFields();
+        while (remaining != 0) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            CaseField field = CaseField.ofOrdinal(ordinal);
+            if (differs(entity, attachments, dto, field)) {
+                changed |= field.mask();
+            }
+        }
+        return changed;
+    }
+    
+    private boolean differs(CaseEntity entity, List<String> attachments, CaseDto dto, CaseField field) {
+        return switch (field) {
+            case TYPE -> dto.getType() != null && !dto.getType().equals(entity.getType());
+            case STATUS -> dto.getStatus() != null && dto.getStatus() != entity.getStatus();
+            case OWNER -> dto.getOwner() != null && !dto.getOwner().equals(entity.getOwner());
+            case BANK -> dto.getBank() != null && !dto.getBank().equals(entity.getBank());
+            case ATTACHMENTS -> dto.getAttachments() != null && !dto.getAttachments().equals(attachments);
+            case DESCRIPTION -> !Objects.equals(dto.getDescription(), entity.getDescription());
+            case FINE_AMOUNT -> dto.getFineAmount() != null && entity.getFineAmount() != null
+                    // BigDecimal.equals also compares scale, so 100.0 and 100.00 would count as a change
+                    ? dto.getFineAmount().compareTo(entity.getFineAmount()) != 0
+                    : dto.getFineAmount() != entity.getFineAmount();
+            case NOTES -> !Objects.equals(dto.getNotes(), entity.getNotes());
+            case COMPLAINANT_TYPE -> !Objects.equals(dto.getComplainantType(), entity.getComplainantType());
+            case COMPLAINANT_COMPANY -> !Objects.equals(dto.getComplainantCompany(), entity.getComplainantCompany());
+            case COMPLAINANT_ICA -> !Objects.equals(dto.getComplainantIca(), entity.getComplainantIca());
+            case COMPLAINANT_COUNTRY -> !Objects.equals(dto.getComplainantCountry(), entity.getComplainantCountry());
+            case COMPLAINANT_REGION -> !Objects.equals(dto.getComplainantRegion(), entity.getComplainantRegion());
+            case ACQUIRER_PRIMARY_ICA -> !Objects.equals(dto.getAcquirerPrimaryIca(), entity.getAcquirerPrimaryIca());
+            case ACQUIRER_COUNTRY -> !Objects.equals(dto.getAcquirerCountry(), entity.getAcquirerCountry());
+            case ACQUIRER_REGION -> !Objects.equals(dto.getAcquirerRegion(), entity.getAcquirerRegion());
+            case SUB_PROGRAM -> !Objects.equals(dto.getSubProgram(), entity.getSubProgram());
+            case OVERALL_CASE_LEAD -> !Objects.equals(dto.getOverallCaseLead(), entity.getOverallCaseLead());
+        };
+    }
+    
+    /**
+     * Copies the given {@code fields} of {@code dto} onto {@code entity}, as the servlet backend
+     * does: required fields ignore a null, optional ones are cleared by it. Attachments are not
+     * part of the entity, so the caller writes {@link CaseField#ATTACHMENTS} to
+     * {@code case_attachments} itself.
+     */
+    public void applyPatch(CaseEntity entity, CaseDto dto, long fields) {
+        long remaining = fields;
+        while (remaining != 0) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            apply(entity, dto, CaseField.ofOrdinal(ordinal));
+        }
+    }
+    
+    private void apply(CaseEntity entity, CaseDto dto, CaseField field) {
+        switch (field) {
+            case TYPE -> {
+                if (dto.getType() != null) entity.setType(dto.getType());
+            }
+            case STATUS -> {
+                if (dto.getStatus() != null) entity.setStatus(dto.getStatus());
+            }
+            case OWNER -> {
+                if (dto.getOwner() != null) entity.setOwner(dto.getOwner());
+            }
+            case BANK -> {
+                if (dto.getBank() != null) entity.setBank(dto.getBank());
+            }
+            case ATTACHMENTS -> {
+                // Stored in case_attachments, not on the entity
+            }
+            case DESCRIPTION -> entity.setDescription(dto.getDescription());
+            case FINE_AMOUNT -> entity.setFineAmount(dto.getFineAmount());
+            case NOTES -> entity.setNotes(dto.getNotes());
+            case COMPLAINANT_TYPE -> entity.setComplainantType(dto.getComplainantType());
+            case COMPLAINANT_COMPANY -> entity.setComplainantCompany(dto.getComplainantCompany());
+            case COMPLAINANT_ICA -> entity.setComplainantIca(dto.getComplainantIca());
+            case COMPLAINANT_COUNTRY -> entity.setComplainantCountry(dto.getComplainantCountry());
+            case COMPLAINANT_REGION -> entity.setComplainantRegion(dto.getComplainantRegion());
+            case ACQUIRER_PRIMARY_ICA -> entity.setAcquirerPrimaryIca(dto.getAcquirerPrimaryIca());
+            case ACQUIRER_COUNTRY -> entity.setAcquirerCountry(dto.getAcquirerCountry());
+            case ACQUIRER_REGION -> entity.setAcquirerRegion(dto.getAcquirerRegion());
+            case SUB_PROGRAM -> entity.setSubProgram(dto.getSubProgram());
+            case OVERALL_CASE_LEAD -> entity.setOverallCaseLead(dto.getOverallCaseLead());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.casemgmt.reactive.model;
+
+public enum CaseStatus {
+    NEW,
+    OPEN,
+    PENDING,
+    ASSESSMENT,
+    HOLD,
+    CLOSED
+}
+
+
+
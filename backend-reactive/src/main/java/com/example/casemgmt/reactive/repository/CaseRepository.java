@@ -0,0 +1,16 @@
+package com.example.casemgmt.reactive.repository;
+
+import com.example.casemgmt.reactive.model.CaseEntity;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface CaseRepository extends ReactiveCrudRepository<CaseEntity, UUID> {
+    
+    Mono<CaseEntity> findByCaseId(String caseId);
+    
+    Mono<Boolean> existsByCaseId(String caseId);
+}
@@ -0,0 +1,85 @@
+package com.example.casemgmt.reactive.service;
+
+import com.example.casemgmt.reactive.dto.CaseChangeDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed case changes out to Server-Sent Events subscribers. A subscriber holds no thread
+ * between events; each has a small bounded buffer that absorbs bursts while its connection is
+ * not writable, and a subscriber that falls further behind loses its oldest pending changes and
+ * is told how many with an {@code overflow} event, so one slow client never holds back the others.
+ */
+@Component
+public class CaseChangeFeed {
+    
+    private final Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration heartbeat;
+    
+    public CaseChangeFeed(@Value("${casemgmt.stream.buffer-size:256}") int bufferSize,
+                          @Value("${casemgmt.stream.max-subscribers:5000}") int maxSubscribers,
+                          @Value("${casemgmt.stream.heartbeat:30s}") Duration heartbeat) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeat = heartbeat;
+    }
+    
+    /**
+     * Opens a new subscription, released when the client disconnects. Throws
+     * {@link IllegalStateException} when the subscriber limit has been reached.
+     */
+    public Flux<ServerSentEvent<Object>> subscribe() {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new IllegalStateException("Too many case stream subscribers");
+        }
+        AtomicInteger lost = new AtomicInteger();
+        Flux<ServerSentEvent<Object>> changes = sink.asFlux()
+                .onBackpressureBuffer(bufferSize, dropped -> lost.incrementAndGet(), BufferOverflowStrategy.DROP_OLDEST)
+                .concatMapIterable(event -> {
+                    int missed = lost.getAndSet(0);
+                    return missed == 0 ? List.of(event) : List.of(ServerSentEvent.builder((Object) missed).event("overflow").build(), event);
+                }, 1);
+        // Writes to a connection the client has dropped fail, which is what ends an idle subscription
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeat)
+                .onBackpressureDrop()
+                .map(tick -> ServerSentEvent.builder().comment("heartbeat").build());
+        // Prefetch of one so pending changes wait in the subscriber's buffer, not in the merge
+        return Flux.merge(1, changes, heartbeats)
+                .doFinally(signal -> subscribers.decrementAndGet());
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.get();
+    }
+    
+    /**
+     * Sends a change to every current subscriber. Called once the write that made the change has
+     * committed, so subscribers never see a change that was rolled back.
+     */
+    public synchronized void publish(CaseChangeDto change) {
+        if (subscribers.get() == 0) {
+            return;
+        }
+        ServerSentEvent<Object> event = ServerSentEvent.<Object>builder(change)
+                .id(Long.toString(sequence.incrementAndGet()))
+                .event(change.getType().name())
+                .build();
+        // Only fails without subscribers; slow subscribers are handled by their own buffers
+        sink.tryEmitNext(event);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.casemgmt.reactive.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Remembers which {@link com.example.casemgmt.reactive.dto.CaseField fields} each recent version of a case
+ * changed, so an update based on an older version can be merged when it touches none of them.
+ * Kept in memory only: after a restart or eviction the history is unknown and callers must treat
+ * the update as conflicting.
+ */
+@Component
+class CaseChangeHistory {
+    
+    /** Bitmask returned when the history does not cover the requested range. */
+    static final long UNKNOWN = -1L;
+    
+    private static final int VERSIONS_PER_CASE = 16;
+    
+    private final Cache<String, Log> logs;
+    
+    CaseChangeHistory(@Value("${casemgmt.update.history-cases:10000}") long maxCases,
+                      @Value("${casemgmt.update.history-ttl:10m}") Duration ttl) {
+        this.logs = Caffeine.newBuilder()
+                .maximumSize(maxCases)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+    
+    void record(String caseId, long version, long fields) {
+        logs.get(caseId, id -> new Log()).record(version, fields);
+    }
+    
+    /**
+     * Returns the union of fields changed by versions {@code fromVersion + 1} through
+     * {@code toVersion}, or {@link #UNKNOWN} if any of them is not remembered.
+     */
+    long changedSince(String caseId, long fromVersion, long toVersion) {
+        if (fromVersion == toVersion) {
+            return 0;
+        }
+        Log log = logs.getIfPresent(caseId);
+        return log == null || fromVersion > toVersion ? UNKNOWN : log.changedSince(fromVersion, toVersion);
+    }
+    
+    private static final class Log {
+        
+        // Ring buffer indexed by version, so a lookup is a direct slot check
+        private final long[] versions = new long[VERSIONS_PER_CASE];
+        private final long[] fields = new long[VERSIONS_PER_CASE];
+        
+        Log() {
+            Arrays.fill(versions, -1);
+        }
+        
+        synchronized void record(long version, long changed) {
+            int slot = (int) (version % VERSIONS_PER_CASE);
+            versions[slot] = version;
+            fields[slot] = changed;
+        }
+        
+        synchronized long changedSince(long fromVersion, long toVersion) {
+            if (toVersion - fromVersion > VERSIONS_PER_CASE) {
+                return UNKNOWN;
+            }
+            long changed = 0;
+            for (long version = fromVersion + 1; version <= toVersion; version++) {
+                int slot = (int) (version % VERSIONS_PER_CASE);
+                if (versions[slot] != version) {
+                    return UNKNOWN;
+                }
+                changed |= fields[slot];
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.casemgmt.reactive.service;
+
+import com.example.casemgmt.reactive.dto.CaseChangeDto;
+import com.example.casemgmt.reactive.dto.CaseDto;
+import com.example.casemgmt.reactive.dto.CaseField;
+import com.example.casemgmt.reactive.mapping.CaseMapper;
+import com.example.casemgmt.reactive.model.CaseEntity;
+import com.example.casemgmt.reactive.model.CaseStatus;
+import com.example.casemgmt.reactive.repository.CaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class CaseService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CaseService.class);
+    
+    // Attachments are joined in; ordering on the case keeps the rows of one case together
+    private static final String SELECT_CASES = "SELECT c.*, a.attachment_filename FROM cases c "
+            + "LEFT JOIN case_attachments a ON a.case_id = c.id";
+    private static final String ORDER_BY = " ORDER BY c.created_date DESC, c.id DESC";
+    private static final String INSERT_ATTACHMENT =
+            "INSERT INTO case_attachments (case_id, attachment_filename) VALUES (:caseId, :filename)";
+    private static final String SELECT_ATTACHMENTS =
+            "SELECT attachment_filename FROM case_attachments WHERE case_id = :caseId";
+    private static final String DELETE_ATTACHMENTS = "DELETE FROM case_attachments WHERE case_id = :caseId";
+    
+    @Autowired
+    private CaseRepository caseRepository;
+    
+    @Autowired
+    private DatabaseClient databaseClient;
+    
+    @Autowired
+    private R2dbcConverter converter;
+    
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+    
+    @Autowired
+    private CaseMapper caseMapper;
+    
+    @Autowired
+    private CaseChangeFeed caseChangeFeed;
+    
+    @Autowired
+    private CaseChangeHistory changeHistory;
+    
+    @Value("${casemgmt.update.max-attempts:5}")
+    private int maxUpdateAttempts;
+    
+    /**
+     * Streams the cases matching every given filter, newest first. Rows are fetched as the
+     * subscriber asks for them, so a slow client holds back the query instead of the whole
+     * result being buffered for it.
+     */
+    public Flux<CaseDto> getCasesByFilters(CaseStatus status, String type, String owner, String bank,
+                                           LocalDateTime dateFrom, LocalDateTime dateTo) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        addFilter(conditions, params, "c.status = :status", "status", status != null ? status.name() : null);
+        addFilter(conditions, params, "c.type = :type", "type", type);
+        addFilter(conditions, params, "c.owner = :owner", "owner", owner);
+        addFilter(conditions, params, "c.bank = :bank", "bank", bank);
+        addFilter(conditions, params, "c.created_date >= :dateFrom", "dateFrom", dateFrom);
+        addFilter(conditions, params, "c.created_date <= :dateTo", "dateTo", dateTo);
+        return selectCases(conditions, params);
+    }
+    
+    public Mono<CaseDto> getCaseById(String caseId) {
+        return selectCases(List.of("c.case_id = :caseId"), Map.of("caseId", caseId)).next();
+    }
+    
+    /**
+     * Creates the case; fails with {@link IllegalArgumentException} if its case ID is taken.
+     */
+    public Mono<CaseDto> createCase(CaseDto caseDto) {
+        List<String> attachments = caseDto.getAttachments() != null ? List.copyOf(caseDto.getAttachments()) : List.of();
+        Mono<CaseDto> create = caseRepository.existsByCaseId(caseDto.getCaseId())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(new IllegalArgumentException("Case with ID " + caseDto.getCaseId() + " already exists"));
+                    }
+                    CaseEntity entity = caseMapper.toEntity(caseDto);
+                    entity.setId(UUID.randomUUID());
+                    entity.setCreatedDate(LocalDateTime.now());
+                    entity.setLastUpdatedDate(entity.getCreatedDate());
+                    return caseRepository.save(entity);
+                })
+                .flatMap(saved -> Flux.fromIterable(attachments)
+                        .concatMap(filename -> databaseClient.sql(INSERT_ATTACHMENT)
+                                .bind("caseId", saved.getId())
+                                .bind("filename", filename)
+                                .then())
+                        .then(Mono.fromSupplier(() -> caseMapper.toDto(saved, attachments))));
+        return transactionalOperator.transactional(create)
+                .doOnNext(created -> {
+                    logger.debug("Created case {}", created.getCaseId());
+                    caseChangeFeed.publish(CaseChangeDto.created(created));
+                });
+    }
+    
+    /**
+     * Applies the fields set on {@code caseDto} to the case, with the servlet backend's rules;
+     * empty if there is no such case. When {@code expectedVersion} is given the update is based on
+     * that version, otherwise on the version read by the first attempt. If other writers have moved
+     * the case on since then, the update still succeeds as long as none of them changed a field
+     * this update changes; otherwise it fails with {@link CaseConflictException}. Writes that lose
+     * the race for the row are retried, each attempt in its own transaction.
+     */
+    public Mono<CaseDto> updateCase(String caseId, CaseDto caseDto, Long expectedVersion) {
+        AtomicReference<Long> baseVersion = new AtomicReference<>(expectedVersion);
+        return transactionalOperator.transactional(Mono.defer(() -> attemptUpdate(caseId, caseDto, baseVersion)))
+                // Jitter so writers that collided do not collide again on the retry
+                .retryWhen(Retry.backoff(maxUpdateAttempts - 1, Duration.ofMillis(2))
+                        .filter(OptimisticLockingFailureException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorMap(OptimisticLockingFailureException.class, e -> new CaseConflictException(caseId, null))
+                .map(update -> {
+                    // Committed by now, so neither the history nor the feed sees a rolled-back version
+                    if (update.changed() != 0) {
+                        changeHistory.record(caseId, versionOf(update.dto()), update.changed());
+                        caseChangeFeed.publish(CaseChangeDto.updated(update.dto()));
+                    }
+                    return update.dto();
+                });
+    }
+    
+    private Mono<Update> attemptUpdate(String caseId, CaseDto caseDto, AtomicReference<Long> baseVersion) {
+        return caseRepository.findByCaseId(caseId)
+                .flatMap(entity -> attachmentsOf(entity.getId()).flatMap(attachments -> {
+                    long currentVersion = entity.getVersion() != null ? entity.getVersion() : 0L;
+                    baseVersion.compareAndSet(null, currentVersion);
+                    
+                    long changed = caseMapper.diff(entity, attachments, caseDto);
+                    long intervening = changeHistory.changedSince(caseId, baseVersion.get(), currentVersion);
+                    if ((intervening & changed) != 0) {
+                        return Mono.error(new CaseConflictException(caseId, currentVersion));
+                    }
+                    if (changed == 0) {
+                        return Mono.just(new Update(caseMapper.toDto(entity, attachments), 0));
+                    }
+                    
+                    caseMapper.applyPatch(entity, caseDto, changed);
+                    entity.setLastUpdatedDate(LocalDateTime.now());
+                    boolean attachmentsChanged = (changed & CaseField.ATTACHMENTS.mask()) != 0;
+                    List<String> newAttachments = attachmentsChanged ? List.copyOf(caseDto.getAttachments()) : attachments;
+                    Mono<Void> writeAttachments = attachmentsChanged ? replaceAttachments(entity.getId(), newAttachments) : Mono.empty();
+                    return caseRepository.save(entity)
+                            .flatMap(saved -> writeAttachments.thenReturn(new Update(caseMapper.toDto(saved, newAttachments), changed)));
+                }));
+    }
+    
+    private Mono<List<String>> attachmentsOf(UUID id) {
+        return databaseClient.sql(SELECT_ATTACHMENTS)
+                .bind("caseId", id)
+                .map((row, metadata) -> row.get("attachment_filename", String.class))
+                .all()
+                .collectList();
+    }
+    
+    private Mono<Void> replaceAttachments(UUID id, List<String> attachments) {
+        return databaseClient.sql(DELETE_ATTACHMENTS)
+                .bind("caseId", id)
+                .then()
+                .thenMany(Flux.fromIterable(attachments)
+                        .concatMap(filename -> databaseClient.sql(INSERT_ATTACHMENT)
+                                .bind("caseId", id)
+                                .bind("filename", filename)
+                                .then()))
+                .then();
+    }
+    
+    private static long versionOf(CaseDto dto) {
+        return dto.getVersion() != null ? dto.getVersion() : 0L;
+    }
+    
+    private Flux<CaseDto> selectCases(List<String> conditions, Map<String, Object> params) {
+        String sql = SELECT_CASES + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions)) + ORDER_BY;
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map((row, metadata) -> new CaseRow(converter.read(CaseEntity.class, row, metadata),
+                        row.get("attachment_filename", String.class)))
+                .all()
+                .bufferUntilChanged(caseRow -> caseRow.entity().getId())
+                .map(rows -> caseMapper.toDto(rows.get(0).entity(), rows.stream()
+                        .map(CaseRow::attachment)
+                        .filter(attachment -> attachment != null)
+                        .toList()));
+    }
+    
+    private static void addFilter(List<String> conditions, Map<String, Object> params,
+                                  String condition, String name, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            params.put(name, value);
+        }
+    }
+    
+    // One row of the case/attachment join
+    private record CaseRow(CaseEntity entity, String attachment) {}
+    
+    // Outcome of one update attempt: the case as written and the fields it changed
+    private record Update(CaseDto dto, long changed) {}
+}
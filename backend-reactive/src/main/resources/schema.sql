@@ -0,0 +1,38 @@
+-- Same tables and columns as the servlet backend generates with Hibernate, so its data.sql seeds both
+
+CREATE TABLE IF NOT EXISTS cases (
+    id UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    case_id VARCHAR(255) NOT NULL UNIQUE,
+    type VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    created_date TIMESTAMP,
+    last_updated_date TIMESTAMP,
+    owner VARCHAR(255) NOT NULL,
+    description VARCHAR,
+    bank VARCHAR(255) NOT NULL,
+    fine_amount DECIMAL(10, 2),
+    notes VARCHAR,
+    complainant_type VARCHAR(255),
+    complainant_company VARCHAR(255),
+    complainant_ica VARCHAR(255),
+    complainant_country VARCHAR(255),
+    complainant_region VARCHAR(255),
+    acquirer_primary_ica VARCHAR(255),
+    acquirer_country VARCHAR(255),
+    acquirer_region VARCHAR(255),
+    sub_program VARCHAR(255),
+    overall_case_lead VARCHAR(255),
+    version BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cases_created_date_id ON cases (created_date, id);
+CREATE INDEX IF NOT EXISTS idx_cases_status_created_date ON cases (status, created_date);
+CREATE INDEX IF NOT EXISTS idx_cases_owner_status ON cases (owner, status);
+CREATE INDEX IF NOT EXISTS idx_cases_bank_status ON cases (bank, status);
+
+CREATE TABLE IF NOT EXISTS case_attachments (
+    case_id UUID NOT NULL REFERENCES cases (id),
+    attachment_filename VARCHAR(255)
+);
+
+CREATE INDEX IF NOT EXISTS idx_case_attachments_case_id ON case_attachments (case_id);
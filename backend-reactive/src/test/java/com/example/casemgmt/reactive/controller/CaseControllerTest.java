@@ -0,0 +1,116 @@
+package com.example.casemgmt.reactive.controller;
+
+import com.example.casemgmt.reactive.dto.CaseDto;
+import com.example.casemgmt.reactive.model.CaseStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CaseControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void testListStreamsMatchingCasesWithTheirAttachments() {
+        // When
+        List<CaseDto> cases = webTestClient.get()
+                .uri("/api/cases?type=MCC&status=NEW")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(CaseDto.class)
+                .returnResult()
+                .getResponseBody();
+
+        // Then
+        assertTrue(cases.stream().allMatch(c -> c.getStatus() == CaseStatus.NEW && c.getType().equals("MCC")));
+        CaseDto seeded = cases.stream()
+                .filter(c -> c.getCaseId().equals("MCC-CS-REC-P-251001-18783"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(List.of("Recovery_Issuer_Ex.xlsx", "MCC_Compliance_Report.pdf"), seeded.getAttachments());
+    }
+
+    @Test
+    void testUpdateWithStaleIfMatchIsRejected() {
+        // Given
+        CaseDto created = new CaseDto();
+        created.setCaseId("REACTIVE-1");
+        created.setType("MCC");
+        created.setStatus(CaseStatus.NEW);
+        created.setOwner("1234");
+        created.setBank("Bradesco S.A.");
+        webTestClient.post().uri("/api/cases").bodyValue(created).exchange().expectStatus().isCreated();
+        webTestClient.patch().uri("/api/cases/REACTIVE-1")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(Map.of("status", "OPEN"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+
+        // When / Then
+        webTestClient.patch().uri("/api/cases/REACTIVE-1")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(Map.of("status", "CLOSED"))
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+        webTestClient.get().uri("/api/cases/REACTIVE-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("OPEN");
+    }
+
+    @Test
+    void testStaleDisjointPatchIsMergedAndNullClears() {
+        // Given
+        CaseDto created = new CaseDto();
+        created.setCaseId("REACTIVE-2");
+        created.setType("MCC");
+        created.setStatus(CaseStatus.NEW);
+        created.setOwner("1234");
+        created.setBank("Bradesco S.A.");
+        created.setNotes("Awaiting bank reply");
+        webTestClient.post().uri("/api/cases").bodyValue(created).exchange().expectStatus().isCreated();
+        webTestClient.patch().uri("/api/cases/REACTIVE-2")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(Map.of("status", "OPEN"))
+                .exchange()
+                .expectStatus().isOk();
+
+        // When: a second writer still on version 0 clears the notes and sets the attachments
+        Map<String, Object> patch = new HashMap<>();
+        patch.put("notes", null);
+        patch.put("attachments", List.of("bank_reply.pdf"));
+        webTestClient.patch().uri("/api/cases/REACTIVE-2")
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(patch)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"");
+
+        // Then
+        webTestClient.get().uri("/api/cases/REACTIVE-2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("OPEN")
+                .jsonPath("$.notes").doesNotExist()
+                .jsonPath("$.attachments[0]").isEqualTo("bank_reply.pdf")
+                .jsonPath("$.attachments.length()").isEqualTo(1);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.casemgmt.reactive.service;
+
+import com.example.casemgmt.reactive.dto.CaseChangeDto;
+import com.example.casemgmt.reactive.dto.CaseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseChangeFeedTest {
+
+    private final CaseChangeFeed feed = new CaseChangeFeed(2, 1, Duration.ofHours(1));
+
+    @Test
+    void testSlowSubscriberDropsOldestChangesAndIsToldHowMany() {
+        // Given
+        List<ServerSentEvent<Object>> received = new ArrayList<>();
+
+        // When: ten changes arrive before the subscriber asks for any
+        StepVerifier.create(feed.subscribe(), 0)
+                .then(() -> {
+                    for (int i = 1; i <= 10; i++) {
+                        feed.publish(CaseChangeDto.updated(caseDto("CASE-" + i)));
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .thenConsumeWhile(event -> !"10".equals(event.id()), received::add)
+                .consumeNextWith(received::add)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        // Then: every change was either delivered or counted in an overflow event
+        int missed = received.stream()
+                .filter(event -> "overflow".equals(event.event()))
+                .mapToInt(event -> (Integer) event.data())
+                .sum();
+        long delivered = received.stream().filter(event -> "UPDATED".equals(event.event())).count();
+        assertTrue(missed > 0);
+        assertEquals(10, missed + delivered);
+        assertEquals(0, feed.getSubscriberCount());
+    }
+
+    @Test
+    void testRejectsSubscribersBeyondLimit() {
+        // Given
+        feed.subscribe();
+
+        // When / Then
+        assertThrows(IllegalStateException.class, feed::subscribe);
+    }
+
+    private static CaseDto caseDto(String caseId) {
+        CaseDto caseDto = new CaseDto();
+        caseDto.setCaseId(caseId);
+        return caseDto;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.AlertImportJobDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end alert file import (parse, map, batched insert) of a generated CSV. Each invocation
+ * imports a fresh file with unique case IDs, so the table grows across the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AlertImportBenchmark {
+    
+    @Param({"10000"})
+    public int caseCount;
+    
+    @Param({"10000"})
+    public int rowsPerFile;
+    
+    private ConfigurableApplicationContext context;
+    private AlertImportService alertImportService;
+    private Path file;
+    private int fileNumber;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(caseCount);
+        alertImportService = context.getBean(AlertImportService.class);
+    }
+    
+    @Setup(Level.Invocation)
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("alert-bench-", ".csv");
+        String prefix = "IMPORT-" + (fileNumber++) + "-";
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("caseId,type,status,owner,bank,fineAmount,description\n");
+            for (int i = 0; i < rowsPerFile; i++) {
+                writer.write(prefix + i + ",MCC,NEW," + BenchmarkContext.OWNERS[i % BenchmarkContext.OWNERS.length]
+                        + ",\"" + BenchmarkContext.BANKS[i % BenchmarkContext.BANKS.length] + "\"," + (1000 + i)
+                        + ",Imported alert row " + i + "\n");
+            }
+        }
+    }
+    
+    @TearDown(Level.Invocation)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public AlertImportJobDto processAlertFile() throws IOException {
+        AlertImportJobDto job = new AlertImportJobDto("benchmark", file.getFileName().toString());
+        alertImportService.runImport(file, job);
+        return job;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.CaseManagementApplication;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application without a web server against the in-memory test database and seeds
+ * it with synthetic cases through {@link CaseService#insertCases}.
+ */
+final class BenchmarkContext {
+    
+    static final CaseStatus[] STATUSES = CaseStatus.values();
+    static final String[] BANKS = {
+        "Banco do Brasil, S.A.", "Unibanco-Uniao de Bancos", "Itau Unibanco S.A.", "Santander Brasil S.A.",
+        "Bradesco S.A.", "Caixa Economica Federal", "HSBC Bank Brasil S.A."
+    };
+    static final String[] OWNERS = {"1234", "MCCGBS ANALYST", "GBSC ANALYST", "MCCANALYST MCCANALYST"};
+    
+    private static final int SEED_BATCH_SIZE = 5000;
+    
+    private BenchmarkContext() {}
+    
+    static ConfigurableApplicationContext start(int caseCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CaseManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.sql.init.mode=never", "--logging.level.root=WARN");
+        seed(context.getBean(CaseService.class), caseCount);
+        return context;
+    }
+    
+    static String caseId(int index) {
+        return "BENCH-" + index;
+    }
+    
+    static CaseEntity newCase(String caseId, int index) {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(caseId);
+        entity.setType(index % 3 == 0 ? "BRAM" : "MCC");
+        entity.setStatus(STATUSES[index % STATUSES.length]);
+        entity.setOwner(OWNERS[index % OWNERS.length]);
+        entity.setBank(BANKS[index % BANKS.length]);
+        entity.setFineAmount(BigDecimal.valueOf(1000L + index % 50_000));
+        entity.setDescription("Synthetic benchmark case " + index);
+        entity.setNotes("Seeded for service-layer benchmarks");
+        entity.setComplainantType("Acquirer");
+        entity.setComplainantCountry("BRAZIL");
+        entity.setComplainantRegion("Latin America and the Caribbean");
+        entity.setAcquirerCountry("BRAZIL");
+        entity.setAcquirerRegion("Latin America and the Caribbean");
+        entity.setSubProgram("RECOVERY");
+        entity.setOverallCaseLead(OWNERS[index % OWNERS.length]);
+        List<String> attachments = new ArrayList<>(1);
+        attachments.add("alert-" + index + ".xlsx");
+        entity.setAttachments(attachments);
+        return entity;
+    }
+    
+    private static void seed(CaseService caseService, int caseCount) {
+        List<CaseEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < caseCount; i++) {
+            batch.add(newCase(caseId(i), i));
+            if (batch.size() == SEED_BATCH_SIZE) {
+                caseService.insertCases(batch);
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            caseService.insertCases(batch);
+        }
+    }
+}
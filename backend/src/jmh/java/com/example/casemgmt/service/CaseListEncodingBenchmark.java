@@ -0,0 +1,88 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.mapping.CaseJsonWriter;
+import com.example.casemgmt.model.CaseEntity;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes a {@code GET /api/cases} response of {@code caseCount} cases in each list format, with
+ * and without the gzip that server compression adds, and prints the payload size of each
+ * combination at setup. No Spring context or database is involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CaseListEncodingBenchmark {
+    
+    @Param({"10000"})
+    private int caseCount;
+    
+    @Param({"JSON", "CBOR"})
+    private CaseListFormat format;
+    
+    @Param({"false", "true"})
+    private boolean gzip;
+    
+    private List<CaseEntity> cases;
+    
+    @Setup
+    public void setUp() throws IOException {
+        cases = new ArrayList<>(caseCount);
+        LocalDateTime created = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < caseCount; i++) {
+            CaseEntity entity = BenchmarkContext.newCase(BenchmarkContext.caseId(i), i);
+            entity.setId(UUID.randomUUID());
+            entity.setCreatedDate(created.plusMinutes(i));
+            entity.setLastUpdatedDate(created.plusMinutes(i + 30));
+            entity.setVersion(0L);
+            cases.add(entity);
+        }
+        System.out.printf("%n%s%s: %d bytes for %d cases%n", format, gzip ? "+gzip" : "", encode(), caseCount);
+    }
+    
+    @Benchmark
+    public long encode() throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        OutputStream out = gzip ? new GZIPOutputStream(counter, 8192) : counter;
+        try (JsonGenerator generator = format.createGenerator(out)) {
+            generator.writeStartArray();
+            for (CaseEntity entity : cases) {
+                CaseJsonWriter.write(generator, entity, true);
+            }
+            generator.writeEndArray();
+        }
+        return counter.count;
+    }
+    
+    private static final class CountingOutputStream extends OutputStream {
+        
+        private long count;
+        
+        @Override
+        public void write(int b) {
+            count++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.mapping.CaseJsonWriter;
+import com.example.casemgmt.mapping.CaseMapper;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion and per-row JSON serialization in isolation; no Spring context or
+ * database is involved. {@code serializeViaDto} is the old list path (map to a DTO, then let
+ * Jackson reflect over it); {@code serializeEntity} is what {@code GET /api/cases} does now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CaseMappingBenchmark {
+    
+    private CaseMapper caseMapper;
+    private ObjectMapper reflectiveMapper;
+    private JsonGenerator generator;
+    private CaseEntity entity;
+    private CaseDto dto;
+    private CaseDto patch;
+    
+    @Setup
+    public void setUp() throws IOException {
+        caseMapper = new CaseMapper();
+        // Plain bean serialization, as the application's mapper did before CaseDtoJsonSerializer
+        reflectiveMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        generator = reflectiveMapper.getFactory().createGenerator(OutputStream.nullOutputStream());
+        entity = BenchmarkContext.newCase("BENCH-42", 42);
+        entity.setId(UUID.randomUUID());
+        dto = caseMapper.toDto(entity);
+        patch = new CaseDto();
+        patch.setStatus(CaseStatus.CLOSED);
+        patch.setNotes("Closed after review");
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        generator.close();
+    }
+    
+    @Benchmark
+    public CaseDto convertToDto() {
+        return caseMapper.toDto(entity);
+    }
+    
+    @Benchmark
+    public CaseEntity convertToEntity() {
+        return caseMapper.toEntity(dto);
+    }
+    
+    @Benchmark
+    public CaseEntity applyPatch() {
+        caseMapper.applyPatch(entity, patch);
+        return entity;
+    }
+    
+    @Benchmark
+    public void serializeViaDto() throws IOException {
+        reflectiveMapper.writeValue(generator, caseMapper.toDto(entity));
+        generator.flush();
+    }
+    
+    @Benchmark
+    public void serializeEntity() throws IOException {
+        CaseJsonWriter.write(generator, entity, true);
+        generator.flush();
+    }
+}
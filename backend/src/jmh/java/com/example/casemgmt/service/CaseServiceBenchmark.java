@@ -0,0 +1,97 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.CacheConfig;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.CaseStatsDto;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.stats.CaseDimension;
+import com.example.casemgmt.stats.CaseStatsIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of {@link CaseService} against a seeded H2 database. Sample mode reports latency
+ * percentiles alongside throughput; the gc profiler configured in build.gradle adds allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CaseServiceBenchmark {
+    
+    // Cases read by the cached benchmark; well inside the casesById maximumSize, so every read hits
+    private static final int HOT_CASES = 1000;
+    
+    @Param({"10000", "100000"})
+    public int caseCount;
+    
+    private ConfigurableApplicationContext context;
+    private CaseService caseService;
+    private CacheManager cacheManager;
+    private CaseStatsIndex caseStatsIndex;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(caseCount);
+        caseService = context.getBean(CaseService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        caseStatsIndex = context.getBean(CaseStatsIndex.class);
+        for (int i = 0; i < hotCases(); i++) {
+            caseService.getCaseById(BenchmarkContext.caseId(i));
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<CaseDto> getAllCases() {
+        return caseService.getAllCases();
+    }
+    
+    @Benchmark
+    public List<CaseDto> getCasesByFilters() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CaseStatus status = BenchmarkContext.STATUSES[random.nextInt(BenchmarkContext.STATUSES.length)];
+        String bank = BenchmarkContext.BANKS[random.nextInt(BenchmarkContext.BANKS.length)];
+        return caseService.getCasesByFilters(status, null, null, bank, null, null);
+    }
+    
+    @Benchmark
+    public Optional<CaseDto> getCaseByIdCached() {
+        return caseService.getCaseById(BenchmarkContext.caseId(ThreadLocalRandom.current().nextInt(hotCases())));
+    }
+    
+    @Benchmark
+    public Optional<CaseDto> getCaseByIdUncached() {
+        String caseId = BenchmarkContext.caseId(ThreadLocalRandom.current().nextInt(caseCount));
+        cacheManager.getCache(CacheConfig.CASES_BY_ID).evict(caseId);
+        return caseService.getCaseById(caseId);
+    }
+    
+    @Benchmark
+    public CaseStatsDto getCaseStatsByStatusAndBank() {
+        return caseStatsIndex.query(EnumSet.of(CaseDimension.STATUS, CaseDimension.BANK), true);
+    }
+    
+    private int hotCases() {
+        return Math.min(caseCount, HOT_CASES);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.casemgmt.loadtest;
+
+import com.example.casemgmt.CaseManagementApplication;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.service.CaseService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Runs the case backend once on platform request threads and once on virtual threads, drives each
+ * with the same closed-loop mix of case reads, partial updates and bank emails from
+ * {@code loadtest.clients} concurrent clients, and prints throughput and latency percentiles side
+ * by side. Program arguments are passed to both runs, e.g.
+ * {@code --args='--spring.datasource.hikari.maximum-pool-size=50'}.
+ * <p>
+ * Settings (system properties): {@code loadtest.clients} (1000), {@code loadtest.cases} (10000),
+ * {@code loadtest.warmup-seconds} (10), {@code loadtest.duration-seconds} (30) and
+ * {@code loadtest.modes} (platform,virtual). Virtual mode needs a JDK 21 runtime.
+ */
+public final class CaseLoadTest {
+    
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    private static final int CASES = Integer.getInteger("loadtest.cases", 10_000);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final String[] MODES = System.getProperty("loadtest.modes", "platform,virtual").split(",");
+    
+    private static final String[] BANKS = {
+        "Banco do Brasil, S.A.", "Unibanco-Uniao de Bancos", "Itau Unibanco S.A.", "Bradesco S.A."
+    };
+    private static final int SEED_BATCH_SIZE = 5000;
+    
+    /**
+     * Request kinds and their share of the traffic in percent.
+     */
+    private enum Operation {
+        GET_CASE(40),
+        LIST_CASES(30),
+        PATCH_CASE(20),
+        EMAIL_BANK(10);
+        
+        private final int percent;
+        
+        Operation(int percent) {
+            this.percent = percent;
+        }
+        
+        static Operation pick(int roll) {
+            int bound = 0;
+            for (Operation operation : values()) {
+                bound += operation.percent;
+                if (roll < bound) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Roll out of range: " + roll);
+        }
+    }
+    
+    private CaseLoadTest() {}
+    
+    public static void main(String[] args) throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-9s %-11s %9s %9s %8s %8s %8s %9s",
+                "mode", "operation", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "non-2xx"));
+        for (String mode : MODES) {
+            boolean virtual = mode.trim().equals("virtual");
+            if (virtual && Runtime.version().feature() < 21) {
+                report.add(String.format("%-9s skipped: virtual threads need JDK 21, running on %s", mode, Runtime.version()));
+                continue;
+            }
+            try (ConfigurableApplicationContext context = start(virtual, args)) {
+                seed(context.getBean(CaseService.class));
+                int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+                report.addAll(run(mode.trim(), port));
+            }
+        }
+        System.out.printf("%n%d clients, %d cases, %ds warm-up, %ds measured%n", CLIENTS, CASES, WARMUP_SECONDS, DURATION_SECONDS);
+        report.forEach(System.out::println);
+    }
+    
+    private static ConfigurableApplicationContext start(boolean virtual, String[] args) {
+        String[] defaults = {
+            "--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtual,
+            "--spring.sql.init.mode=never",
+            "--logging.level.root=WARN"
+        };
+        return new SpringApplicationBuilder(CaseManagementApplication.class)
+                .profiles("test")
+                .run(Stream.concat(Arrays.stream(defaults), Arrays.stream(args)).toArray(String[]::new));
+    }
+    
+    private static void seed(CaseService caseService) {
+        List<CaseEntity> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < CASES; i++) {
+            CaseEntity entity = new CaseEntity();
+            entity.setCaseId(caseId(i));
+            entity.setType("MCC");
+            entity.setStatus(CaseStatus.values()[i % CaseStatus.values().length]);
+            entity.setOwner("LOAD ANALYST");
+            entity.setBank(BANKS[i % BANKS.length]);
+            entity.setDescription("Load test case " + i);
+            batch.add(entity);
+            if (batch.size() == SEED_BATCH_SIZE) {
+                caseService.insertCases(batch);
+                batch = new ArrayList<>(SEED_BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            caseService.insertCases(batch);
+        }
+    }
+    
+    private static List<String> run(String mode, int port) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String base = "http://localhost:" + port + "/api/cases";
+        long measureFrom = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+        long measureTo = measureFrom + DURATION_SECONDS * 1_000_000_000L;
+        
+        Recorder[] recorders = new Recorder[CLIENTS];
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            Recorder recorder = new Recorder();
+            recorders[c] = recorder;
+            Thread thread = new Thread(() -> {
+                try {
+                    drive(client, base, measureFrom, measureTo, recorder);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + c);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+        
+        List<String> lines = new ArrayList<>();
+        Recorder total = new Recorder();
+        for (Operation operation : Operation.values()) {
+            Recorder merged = new Recorder();
+            for (Recorder recorder : recorders) {
+                merged.addAll(operation, recorder);
+                total.addAll(operation, recorder);
+            }
+            lines.add(merged.summary(mode, operation.name().toLowerCase(), operation));
+        }
+        lines.add(total.summary(mode, "all", null));
+        return lines;
+    }
+    
+    private static void drive(HttpClient client, String base, long measureFrom, long measureTo, Recorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < measureTo) {
+            Operation operation = Operation.pick(random.nextInt(100));
+            String caseId = caseId(random.nextInt(CASES));
+            HttpRequest request = switch (operation) {
+                case GET_CASE -> HttpRequest.newBuilder(URI.create(base + "/" + caseId)).build();
+                case LIST_CASES -> HttpRequest.newBuilder(URI.create(base + "?status="
+                        + CaseStatus.values()[random.nextInt(CaseStatus.values().length)]
+                        + "&bank=" + URLEncoder.encode(BANKS[random.nextInt(BANKS.length)], StandardCharsets.UTF_8))).build();
+                case PATCH_CASE -> HttpRequest.newBuilder(URI.create(base + "/" + caseId))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"notes\":\"load " + now + "\"}"))
+                        .build();
+                case EMAIL_BANK -> HttpRequest.newBuilder(URI.create(base + "/" + caseId + "/email"))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            };
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long end = System.nanoTime();
+            if (now >= measureFrom) {
+                recorder.record(operation, end - now, status);
+            }
+        }
+    }
+    
+    private static String caseId(int index) {
+        return "LOAD-" + index;
+    }
+    
+    /**
+     * Latencies (in nanoseconds) and failed requests per operation, for one client or merged.
+     */
+    private static final class Recorder {
+        
+        private final long[][] latencies = new long[Operation.values().length][256];
+        private final int[] counts = new int[Operation.values().length];
+        private final int[] failures = new int[Operation.values().length];
+        
+        void record(Operation operation, long nanos, int status) {
+            int i = operation.ordinal();
+            if (counts[i] == latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], counts[i] * 2);
+            }
+            latencies[i][counts[i]++] = nanos;
+            if (status < 200 || status >= 300) {
+                failures[i]++;
+            }
+        }
+        
+        void addAll(Operation operation, Recorder other) {
+            int i = operation.ordinal();
+            if (counts[i] + other.counts[i] > latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], Math.max(latencies[i].length * 2, counts[i] + other.counts[i]));
+            }
+            System.arraycopy(other.latencies[i], 0, latencies[i], counts[i], other.counts[i]);
+            counts[i] += other.counts[i];
+            failures[i] += other.failures[i];
+        }
+        
+        // Summarizes one operation, or all of them when operation is null
+        String summary(String mode, String label, Operation operation) {
+            long[] all = new long[0];
+            int failed = 0;
+            for (Operation each : Operation.values()) {
+                if (operation == null || operation == each) {
+                    int offset = all.length;
+                    all = Arrays.copyOf(all, offset + counts[each.ordinal()]);
+                    System.arraycopy(latencies[each.ordinal()], 0, all, offset, counts[each.ordinal()]);
+                    failed += failures[each.ordinal()];
+                }
+            }
+            Arrays.sort(all);
+            return String.format("%-9s %-11s %9d %9.0f %8.1f %8.1f %8.1f %9d", mode, label, all.length,
+                    all.length / (double) DURATION_SECONDS, millis(percentile(all, 0.50)), millis(percentile(all, 0.99)),
+                    millis(all.length == 0 ? 0 : all[all.length - 1]), failed);
+        }
+        
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+        }
+        
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
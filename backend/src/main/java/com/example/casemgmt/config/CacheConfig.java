@@ -0,0 +1,18 @@
+package com.example.casemgmt.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caching is ordered outside the transaction advice so cache evictions on {@code CaseService}
+ * writes happen after the transaction commits, never before. Updated cases are put into
+ * {@link #CASES_BY_ID} by the service itself, which keeps the newer of two versions.
+ * The caches themselves are Caffeine, configured under {@code spring.cache}.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+    
+    public static final String CASES_BY_ID = "casesById";
+}
@@ -0,0 +1,94 @@
+package com.example.casemgmt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+    
+    /**
+     * Boot only auto-configures its general-purpose executor when no other executor bean exists,
+     * so declare it explicitly; Spring MVC async requests such as streaming exports run on it.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                  AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+    
+    /**
+     * With {@code spring.threads.virtual.enabled} on JDK 21 the same work gets a virtual thread
+     * per task, matching the request threads. The bounded pools below stay on platform threads:
+     * their worker counts are the concurrency limits, and pooling virtual threads buys nothing.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+                  AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+    
+    /**
+     * Bounded pool for background alert imports. When every worker is busy and the queue is
+     * full, submissions are rejected rather than piling up uploaded files on disk.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor alertImportExecutor(@Value("${casemgmt.import.workers:2}") int workers,
+                                                      @Value("${casemgmt.import.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("alert-import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+    
+    /**
+     * Pool for outbound bank emails, sized independently of the servlet connector so slow
+     * mail delivery cannot starve request threads. Per-bank limits are applied on top of it.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emailDispatchExecutor(@Value("${casemgmt.email.workers:16}") int workers,
+                                                        @Value("${casemgmt.email.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("email-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+    
+    /**
+     * Writes case change events to SSE subscribers. A servlet write blocks while the client's
+     * TCP window is full, so drains never wait in a queue behind stalled ones: each gets an idle
+     * or new thread. Each subscriber has at most one drain at a time, so the subscriber limit
+     * bounds the pool, and threads beyond {@code workers} exit once idle.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor caseStreamExecutor(@Value("${casemgmt.stream.workers:4}") int workers,
+                                                     @Value("${casemgmt.stream.max-subscribers:500}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(Math.max(workers, maxSubscribers));
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("case-stream-");
+        return executor;
+    }
+}
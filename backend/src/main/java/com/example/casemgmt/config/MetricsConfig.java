@@ -0,0 +1,29 @@
+package com.example.casemgmt.config;
+
+import com.example.casemgmt.metrics.SqlStatementMetricsFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@link io.micrometer.core.annotation.Timed @Timed} on the service classes. Every
+ * public service method records a {@code casemgmt.service} timer tagged with class, method and
+ * exception; histogram buckets for all {@code casemgmt.*} meters are switched on under
+ * {@code management.metrics.distribution} so Prometheus can compute percentiles across instances.
+ */
+@Configuration
+public class MetricsConfig {
+    
+    public static final String SERVICE_TIMER = "casemgmt.service";
+    
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+    
+    @Bean
+    public SqlStatementMetricsFilter sqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        return new SqlStatementMetricsFilter(meterRegistry);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.casemgmt.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * When {@code casemgmt.datasource.replica.url} is set, read-only transactions run on a separate
+ * connection pool for that URL and everything else on the primary pool, so heavy read traffic
+ * cannot starve imports and updates of connections and each pool is sized on its own
+ * ({@code spring.datasource.hikari.*} and {@code casemgmt.datasource.replica.hikari.*}).
+ * Without the property Boot's single auto-configured pool is used as before.
+ * <p>
+ * The transaction manager asks for a connection before it publishes whether the transaction is
+ * read-only, so the routing data source sits behind a {@link LazyConnectionDataSourceProxy} that
+ * only picks a pool when the first statement runs.
+ */
+@Configuration
+@ConditionalOnProperty("casemgmt.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+    
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+    
+    @Bean
+    @ConfigurationProperties("casemgmt.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${casemgmt.datasource.replica.url}") String url,
+                                              @Value("${casemgmt.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${casemgmt.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource(primaryDataSource, replicaDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+    
+    private static class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+        
+        ReadOnlyRoutingDataSource(DataSource primary, DataSource replica) {
+            setTargetDataSources(Map.of(false, primary, true, replica));
+            setDefaultTargetDataSource(primary);
+        }
+        
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+    }
+}
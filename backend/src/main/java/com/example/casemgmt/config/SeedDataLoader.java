@@ -0,0 +1,44 @@
+package com.example.casemgmt.config;
+
+import com.example.casemgmt.repository.CaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Loads data.sql into an empty database when {@code casemgmt.db.seed-if-empty} is set. With a
+ * persistent database Spring's own script initialization would insert the seed rows again on
+ * every start, so the persistent profile turns that off and relies on this instead. Runs before
+ * the application is ready, so the in-memory indexes built at that point include the seed rows.
+ */
+@Component
+public class SeedDataLoader implements ApplicationRunner {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SeedDataLoader.class);
+    
+    @Autowired
+    private CaseRepository caseRepository;
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Value("${casemgmt.db.seed-if-empty:false}")
+    private boolean seedIfEmpty;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!seedIfEmpty || caseRepository.count() > 0) {
+            return;
+        }
+        new ResourceDatabasePopulator(new ClassPathResource("data.sql")).execute(dataSource);
+        logger.info("Seeded empty database with {} cases", caseRepository.count());
+    }
+}
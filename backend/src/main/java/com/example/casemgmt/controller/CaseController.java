@@ -1,23 +1,53 @@
 package com.example.casemgmt.controller;
 
+import com.example.casemgmt.dto.AlertImportJobDto;
+import com.example.casemgmt.dto.BulkCaseResultDto;
 import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.CasePageDto;
+import com.example.casemgmt.dto.CaseSearchResultDto;
+import com.example.casemgmt.dto.CaseStatsDto;
+import com.example.casemgmt.dto.EmailDispatchDto;
+import com.example.casemgmt.evidence.EvidenceFile;
+import com.example.casemgmt.evidence.EvidenceResponseWriter;
+import com.example.casemgmt.index.CaseIndexLoader;
 import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.search.CaseSearchIndex;
+import com.example.casemgmt.service.AlertImportService;
+import com.example.casemgmt.service.CaseBulkService;
+import com.example.casemgmt.service.CaseChangeFeed;
+import com.example.casemgmt.service.CaseConflictException;
+import com.example.casemgmt.service.CaseExportFormat;
+import com.example.casemgmt.service.CaseListFormat;
 import com.example.casemgmt.service.CaseService;
+import com.example.casemgmt.service.EmailDispatchService;
+import com.example.casemgmt.stats.CaseDimension;
+import com.example.casemgmt.stats.CaseStatsIndex;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/cases")
@@ -29,38 +59,166 @@ public class CaseController {
     @Autowired
     private CaseService caseService;
     
+    @Autowired
+    private CaseBulkService caseBulkService;
+    
+    @Autowired
+    private CaseChangeFeed caseChangeFeed;
+    
+    @Autowired
+    private CaseStatsIndex caseStatsIndex;
+    
+    @Autowired
+    private CaseSearchIndex caseSearchIndex;
+    
+    @Autowired
+    private CaseIndexLoader caseIndexLoader;
+    
+    @Autowired
+    private AlertImportService alertImportService;
+    
+    @Autowired
+    private EmailDispatchService emailDispatchService;
+    
+    @Value("${casemgmt.search.default-size:20}")
+    private int defaultSearchSize;
+    
+    @Value("${casemgmt.search.max-size:100}")
+    private int maxSearchSize;
+    
     @GetMapping
-    public ResponseEntity<List<CaseDto>> getAllCases(
+    public ResponseEntity<StreamingResponseBody> getAllCases(
             @RequestParam(required = false) CaseStatus status,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) String owner,
             @RequestParam(required = false) String bank,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateFrom,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dateTo,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
+        // JSON unless the client asks for the compact CBOR encoding (Accept: application/cbor)
+        CaseListFormat format = CaseListFormat.fromAcceptHeader(accept);
+        // Entities are written straight to the response as they are serialized, without a DTO list in between
+        StreamingResponseBody body = out -> {
+            long count = caseService.writeCases(status, type, owner, bank, dateFrom, dateTo, format, out);
+            logger.debug("Retrieved {} cases as {}", count, format);
+        };
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(body);
+    }
+    
+    @GetMapping("/page")
+    public ResponseEntity<CasePageDto> getCasePage(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer size) {
         try {
-            List<CaseDto> cases;
-            if (status != null || type != null || owner != null || bank != null || dateFrom != null || dateTo != null) {
-                cases = caseService.getCasesByFilters(status, type, owner, bank, dateFrom, dateTo);
-            } else {
-                cases = caseService.getAllCases();
-            }
-            
-            logger.info("Retrieved {} cases", cases.size());
-            return ResponseEntity.ok(cases);
+            CasePageDto page = caseService.getCasePage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
-            logger.error("Error retrieving cases", e);
+            logger.error("Error retrieving case page", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCases(@RequestParam(defaultValue = "ndjson") String format) {
+        CaseExportFormat exportFormat;
+        try {
+            exportFormat = CaseExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid export request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // The body runs on the async executor after this method returns, inside its own read-only transaction
+        StreamingResponseBody body = out -> caseService.exportCases(exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cases." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+    
+    /**
+     * Dashboard aggregates, e.g. {@code ?groupBy=status,bank&sum=fineAmount}. Served from the
+     * in-memory stats index, so the cost does not depend on the number of cases.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CaseStatsDto> getCaseStats(@RequestParam(required = false) List<String> groupBy,
+                                                     @RequestParam(required = false) String sum) {
+        if (!caseIndexLoader.isLoaded()) {
+            return indexesLoading();
+        }
+        try {
+            Set<CaseDimension> dimensions = EnumSet.noneOf(CaseDimension.class);
+            if (groupBy != null) {
+                for (String dimension : groupBy) {
+                    if (!dimension.isBlank()) {
+                        dimensions.add(CaseDimension.fromParameter(dimension));
+                    }
+                }
+            }
+            if (sum != null && !sum.equals("fineAmount")) {
+                throw new IllegalArgumentException("Unsupported sum: " + sum);
+            }
+            return ResponseEntity.ok(caseStatsIndex.query(dimensions, sum != null));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid stats request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Full-text search over description and notes, ranked best match first. Served from the
+     * in-memory search index, which reflects each write as soon as it commits.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CaseSearchResultDto> searchCases(@RequestParam String q,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(required = false) Integer size) {
+        if (!caseIndexLoader.isLoaded()) {
+            return indexesLoading();
+        }
+        int pageSize = size != null ? size : defaultSearchSize;
+        if (q.isBlank() || page < 0 || pageSize < 1 || pageSize > maxSearchSize) {
+            logger.warn("Invalid search request: q='{}', page={}, size={}", q, page, pageSize);
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(caseSearchIndex.search(q, page, pageSize));
+    }
+    
+    /**
+     * Stats and search would answer from a partly loaded index while the startup load runs.
+     */
+    private static <T> ResponseEntity<T> indexesLoading() {
+        logger.warn("Case indexes are still loading");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+    }
+    
+    /**
+     * Live feed of committed case changes as Server-Sent Events, one event per change named after
+     * its type. An {@code overflow} event means this client fell behind and missed that many
+     * changes, and should reload.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCaseChanges() {
+        try {
+            return ResponseEntity.ok(caseChangeFeed.subscribe());
+        } catch (IllegalStateException e) {
+            logger.warn("Rejecting case stream subscriber: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+    
     @GetMapping("/{caseId}")
     public ResponseEntity<CaseDto> getCase(@PathVariable String caseId) {
         try {
             Optional<CaseDto> caseDto = caseService.getCaseById(caseId);
             if (caseDto.isPresent()) {
-                logger.info("Retrieved case: {}", caseId);
-                return ResponseEntity.ok(caseDto.get());
+                return ResponseEntity.ok().eTag(eTag(caseDto.get())).body(caseDto.get());
             } else {
                 logger.warn("Case not found: {}", caseId);
                 return ResponseEntity.notFound().build();
@@ -75,7 +233,6 @@ public class CaseController {
     public ResponseEntity<CaseDto> createCase(@Valid @RequestBody CaseDto caseDto) {
         try {
             CaseDto createdCase = caseService.createCase(caseDto);
-            logger.info("Created new case: {}", createdCase.getCaseId());
             return ResponseEntity.status(HttpStatus.CREATED).body(createdCase);
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid case data: {}", e.getMessage());
@@ -87,36 +244,109 @@ public class CaseController {
     }
     
     @PutMapping("/{caseId}")
-    public ResponseEntity<CaseDto> updateCase(@PathVariable String caseId, @Valid @RequestBody CaseDto caseDto) {
+    public ResponseEntity<CaseDto> updateCase(@PathVariable String caseId, @Valid @RequestBody CaseDto caseDto,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return applyUpdate(caseId, caseDto, ifMatch);
+    }
+    
+    /**
+     * Partial update: only the fields present in the body are changed, and concurrent writers
+     * touching other fields of the same case do not conflict with it.
+     */
+    @PatchMapping("/{caseId}")
+    public ResponseEntity<CaseDto> patchCase(@PathVariable String caseId, @RequestBody CaseDto caseDto,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return applyUpdate(caseId, caseDto, ifMatch);
+    }
+    
+    private ResponseEntity<CaseDto> applyUpdate(String caseId, CaseDto caseDto, String ifMatch) {
+        Long expectedVersion;
         try {
-            Optional<CaseDto> updatedCase = caseService.updateCase(caseId, caseDto);
+            expectedVersion = parseIfMatch(ifMatch);
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid If-Match header for case {}: {}", caseId, ifMatch);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        try {
+            Optional<CaseDto> updatedCase = caseService.updateCase(caseId, caseDto, expectedVersion);
             if (updatedCase.isPresent()) {
-                logger.info("Updated case: {}", caseId);
-                return ResponseEntity.ok(updatedCase.get());
+                return ResponseEntity.ok().eTag(eTag(updatedCase.get())).body(updatedCase.get());
             } else {
                 logger.warn("Case not found for update: {}", caseId);
                 return ResponseEntity.notFound().build();
             }
+        } catch (CaseConflictException e) {
+            logger.warn("Conflicting update of case {}: {}", caseId, e.getMessage());
+            // With If-Match the client asked for a precondition; without it the write simply lost a race
+            HttpStatus status = expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+            if (e.getCurrentVersion() != null) {
+                response.eTag(eTag(e.getCurrentVersion()));
+            }
+            return response.build();
         } catch (Exception e) {
             logger.error("Error updating case: {}", caseId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCaseResultDto> createCases(@RequestBody List<CaseDto> cases) {
+        try {
+            return ResponseEntity.ok(caseBulkService.createCases(cases));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk create request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("Error creating cases in bulk", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkCaseResultDto> updateCases(@RequestBody List<CaseDto> patches) {
+        try {
+            return ResponseEntity.ok(caseBulkService.updateCases(patches));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk update request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            logger.error("Error updating cases in bulk", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @PostMapping("/{caseId}/email")
-    public ResponseEntity<Map<String, String>> emailBank(@PathVariable String caseId) {
+    public ResponseEntity<EmailDispatchDto> emailBank(@PathVariable String caseId) {
         try {
-            String message = caseService.emailBank(caseId);
-            Map<String, String> response = new HashMap<>();
-            response.put("message", message);
-            logger.info("Email sent for case: {}", caseId);
-            return ResponseEntity.ok(response);
+            Optional<EmailDispatchDto> dispatch = emailDispatchService.submit(caseId);
+            if (dispatch.isPresent()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(dispatch.get());
+            } else {
+                logger.warn("Case not found for email: {}", caseId);
+                return ResponseEntity.notFound().build();
+            }
+        } catch (TaskRejectedException e) {
+            logger.warn("Email dispatcher saturated, rejecting email for case {}: {}", caseId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (Exception e) {
-            logger.error("Error sending email for case: {}", caseId, e);
+            logger.error("Error queueing email for case: {}", caseId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    @GetMapping("/{caseId}/email/{trackingId}")
+    public ResponseEntity<EmailDispatchDto> getEmailStatus(@PathVariable String caseId, @PathVariable String trackingId) {
+        Optional<EmailDispatchDto> dispatch = emailDispatchService.getDispatch(trackingId);
+        if (dispatch.isPresent() && dispatch.get().getCaseId().equals(caseId)) {
+            return ResponseEntity.ok(dispatch.get());
+        } else {
+            logger.warn("Email dispatch not found: {}", trackingId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
     @PostMapping("/{caseId}/upload")
     public ResponseEntity<Map<String, String>> uploadEvidence(@PathVariable String caseId, 
                                                             @RequestParam("file") MultipartFile file) {
@@ -126,11 +356,15 @@ public class CaseController {
                 return ResponseEntity.badRequest().build();
             }
             
-            String filename = caseService.uploadEvidence(caseId, file);
+            Optional<String> uploaded = caseService.uploadEvidence(caseId, file);
+            if (uploaded.isEmpty()) {
+                logger.warn("Evidence uploaded for unknown case: {}", caseId);
+                return ResponseEntity.notFound().build();
+            }
+            String filename = uploaded.get();
             Map<String, String> response = new HashMap<>();
             response.put("filename", filename);
             response.put("message", "File uploaded successfully");
-            logger.info("Evidence uploaded for case: {}, file: {}", caseId, filename);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             logger.error("Error uploading evidence for case: {}", caseId, e);
@@ -138,6 +372,22 @@ public class CaseController {
         }
     }
     
+    /**
+     * Downloads an uploaded attachment. Supports a single {@code Range}, so large evidence can
+     * be resumed or previewed; the file is sent with sendfile where the container supports it.
+     */
+    @GetMapping("/{caseId}/attachments/{name}")
+    public void downloadAttachment(@PathVariable String caseId, @PathVariable String name,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<EvidenceFile> evidence = caseService.findEvidence(caseId, name);
+        if (evidence.isEmpty()) {
+            logger.warn("Attachment not found for case: {}, name: {}", caseId, name);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        EvidenceResponseWriter.write(evidence.get(), request, response);
+    }
+    
     @PostMapping("/upload-alert")
     public ResponseEntity<Map<String, Object>> uploadAlertFile(@RequestParam("file") MultipartFile file) {
         try {
@@ -148,24 +398,33 @@ public class CaseController {
             
             // Validate file type
             String contentType = file.getContentType();
-            if (contentType == null || (!contentType.equals("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") &&
-                !contentType.equals("application/vnd.ms-excel") && !contentType.equals("text/csv"))) {
+            if (contentType == null || !AlertImportService.SUPPORTED_CONTENT_TYPES.contains(contentType)) {
                 logger.warn("Invalid file type uploaded: {}", contentType);
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("error", "Invalid file type. Please upload Excel (.xlsx, .xls) or CSV files only.");
                 return ResponseEntity.badRequest().body(errorResponse);
             }
             
-            List<CaseDto> createdCases = caseService.processAlertFile(file);
+            AlertImportJobDto job = alertImportService.submit(file);
             
             Map<String, Object> response = new HashMap<>();
-            response.put("message", "Alert file processed successfully");
-            response.put("casesCreated", createdCases.size());
-            response.put("cases", createdCases);
+            response.put("message", "Alert file accepted for processing");
+            response.put("jobId", job.getJobId());
+            response.put("status", job.getStatus());
             response.put("filename", file.getOriginalFilename());
             
-            logger.info("Alert file processed successfully: {}, created {} cases", file.getOriginalFilename(), createdCases.size());
-            return ResponseEntity.ok(response);
+            logger.info("Alert file queued: {}, job {}", file.getOriginalFilename(), job.getJobId());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (TaskRejectedException e) {
+            logger.warn("Alert import queue is full, rejecting {}", file.getOriginalFilename());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Too many alert imports in progress. Please retry shortly.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected alert file {}: {}", file.getOriginalFilename(), e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             logger.error("Error processing alert file: {}", file.getOriginalFilename(), e);
             Map<String, Object> errorResponse = new HashMap<>();
@@ -173,7 +432,45 @@ public class CaseController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
+    
+    @GetMapping("/import-jobs")
+    public ResponseEntity<List<AlertImportJobDto>> getImportJobs() {
+        return ResponseEntity.ok(alertImportService.getJobs());
+    }
+    
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<AlertImportJobDto> getImportJob(@PathVariable String jobId) {
+        Optional<AlertImportJobDto> job = alertImportService.getJob(jobId);
+        if (job.isPresent()) {
+            return ResponseEntity.ok(job.get());
+        } else {
+            logger.warn("Import job not found: {}", jobId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    private static String eTag(CaseDto caseDto) {
+        return eTag(caseDto.getVersion() != null ? caseDto.getVersion() : 0L);
+    }
+    
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+    
+    /**
+     * Reads the case version out of an If-Match header; {@code null} when absent or {@code *}.
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        return Long.parseLong(tag);
+    }
 }
-
-
-
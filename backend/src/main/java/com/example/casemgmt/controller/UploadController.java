@@ -0,0 +1,110 @@
+package com.example.casemgmt.controller;
+
+import com.example.casemgmt.dto.UploadSessionDto;
+import com.example.casemgmt.service.ChunkedUploadService;
+import com.example.casemgmt.service.UploadChecksumException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * Resumable chunked uploads for files too large to send reliably in one multipart request:
+ * {@code POST /api/uploads} to start, {@code PUT /api/uploads/{id}/chunks/{offset}} with the raw
+ * chunk bytes and an {@code X-Chunk-SHA256} header for each chunk (in parallel if desired),
+ * {@code GET /api/uploads/{id}} to learn which offsets are still missing after an interruption,
+ * and {@code POST /api/uploads/{id}/complete} to hand the file over.
+ */
+@RestController
+@RequestMapping("/api/uploads")
+@CrossOrigin(origins = "http://localhost:3000")
+public class UploadController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(UploadController.class);
+    
+    static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-SHA256";
+    
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+    
+    @PostMapping
+    public ResponseEntity<UploadSessionDto> startUpload(@RequestBody UploadSessionDto request) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(chunkedUploadService.start(request));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid upload request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Rejecting upload of {}: {}", request.getFilename(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            logger.error("Error starting upload of {}", request.getFilename(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionDto> getUpload(@PathVariable String uploadId) {
+        return chunkedUploadService.getUpload(uploadId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PutMapping("/{uploadId}/chunks/{offset}")
+    public ResponseEntity<UploadSessionDto> uploadChunk(@PathVariable String uploadId,
+                                                        @PathVariable long offset,
+                                                        @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String sha256,
+                                                        InputStream body) {
+        try {
+            return chunkedUploadService.writeChunk(uploadId, offset, body, sha256)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (UploadChecksumException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid chunk for upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Rejecting chunk for upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            logger.error("Error writing chunk at offset {} of upload {}", offset, uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<UploadSessionDto> completeUpload(@PathVariable String uploadId) {
+        try {
+            return chunkedUploadService.complete(uploadId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (TaskRejectedException e) {
+            logger.warn("Alert import queue is full, upload {} stays open", uploadId);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (IllegalStateException e) {
+            logger.warn("Cannot complete upload {}: {}", uploadId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            logger.error("Error completing upload {}", uploadId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<Void> abortUpload(@PathVariable String uploadId) {
+        try {
+            return chunkedUploadService.abort(uploadId)
+                    ? ResponseEntity.noContent().build()
+                    : ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.casemgmt.controller;
+
+import com.example.casemgmt.dto.VoicePlanDto;
+import com.example.casemgmt.service.VoiceCommandService;
+import com.example.casemgmt.voice.VoicePlanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Voice agent planning served by the case backend itself, so a voice command no longer needs a
+ * hop through the Node voice-agent-server. Same paths and response shape as that server:
+ * {@code GET /voice-agent/plan?text=...&appId=...} or {@code POST /voice-agent/plan} with
+ * {@code {"text": ..., "appId": ...}}.
+ * <p>
+ * {@code /voice-agent/execute} takes the same parameters plus an optional {@code user} and also
+ * returns the cases the plan would show, so a command like "show pending cases" needs one round
+ * trip instead of a plan request followed by a case query.
+ */
+@RestController
+@RequestMapping("/voice-agent")
+@CrossOrigin(origins = "http://localhost:3000")
+public class VoiceAgentController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(VoiceAgentController.class);
+    
+    @Autowired
+    private VoicePlanner voicePlanner;
+    
+    @Autowired
+    private VoiceCommandService voiceCommandService;
+    
+    @GetMapping("/plan")
+    public ResponseEntity<VoicePlanDto> getPlan(@RequestParam(required = false) String text) {
+        return plan(text);
+    }
+    
+    @PostMapping("/plan")
+    public ResponseEntity<VoicePlanDto> postPlan(@RequestBody Map<String, String> request) {
+        return plan(request.get("text"));
+    }
+    
+    @GetMapping("/execute")
+    public ResponseEntity<VoicePlanDto> getExecute(@RequestParam(required = false) String text,
+                                                   @RequestParam(required = false) String user) {
+        return execute(text, user);
+    }
+    
+    @PostMapping("/execute")
+    public ResponseEntity<VoicePlanDto> postExecute(@RequestBody Map<String, String> request) {
+        return execute(request.get("text"), request.get("user"));
+    }
+    
+    private ResponseEntity<VoicePlanDto> plan(String text) {
+        if (text == null || text.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(voicePlanner.plan(text));
+        } catch (Exception e) {
+            logger.error("Error planning voice command: {}", text, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    private ResponseEntity<VoicePlanDto> execute(String text, String user) {
+        if (text == null || text.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(voiceCommandService.execute(text, user));
+        } catch (Exception e) {
+            logger.error("Error executing voice command: {}", text, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
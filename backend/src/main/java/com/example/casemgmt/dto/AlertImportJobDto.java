@@ -0,0 +1,172 @@
+package com.example.casemgmt.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * State and progress of one alert file import. Counters are written by the single worker
+ * running the import and read concurrently by status polls, hence the volatile fields.
+ * Only the first {@link #MAX_ERRORS} row errors are kept.
+ */
+public class AlertImportJobDto {
+    
+    public static final int MAX_ERRORS = 50;
+    
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+    
+    private String jobId;
+    private String filename;
+    private volatile Status status = Status.QUEUED;
+    private LocalDateTime submittedAt;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile long rowsParsed;
+    private volatile long rowsInserted;
+    private volatile long rowsRejected;
+    private volatile long elapsedMillis;
+    private volatile String failureMessage;
+    private List<String> errors = new CopyOnWriteArrayList<>();
+    
+    // Constructors
+    public AlertImportJobDto() {}
+    
+    public AlertImportJobDto(String jobId, String filename) {
+        this.jobId = jobId;
+        this.filename = filename;
+        this.submittedAt = LocalDateTime.now();
+    }
+    
+    public void rowParsed() {
+        rowsParsed++;
+    }
+    
+    public void rowsInserted(int count) {
+        rowsInserted += count;
+    }
+    
+    public void rowRejected(long rowNumber, String reason) {
+        rowsRejected++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("Row " + rowNumber + ": " + reason);
+        }
+    }
+    
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+    
+    /**
+     * Parsed rows per second since the job started, or 0 before it starts.
+     */
+    public long getRowsPerSecond() {
+        long millis = elapsedMillis;
+        if (millis == 0 && startedAt != null && finishedAt == null) {
+            millis = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+        }
+        return millis > 0 ? rowsParsed * 1000 / millis : 0;
+    }
+    
+    // Getters and Setters
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+    
+    public String getFilename() {
+        return filename;
+    }
+    
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+    
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+    
+    public long getRowsParsed() {
+        return rowsParsed;
+    }
+    
+    public void setRowsParsed(long rowsParsed) {
+        this.rowsParsed = rowsParsed;
+    }
+    
+    public long getRowsInserted() {
+        return rowsInserted;
+    }
+    
+    public void setRowsInserted(long rowsInserted) {
+        this.rowsInserted = rowsInserted;
+    }
+    
+    public long getRowsRejected() {
+        return rowsRejected;
+    }
+    
+    public void setRowsRejected(long rowsRejected) {
+        this.rowsRejected = rowsRejected;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+    
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.casemgmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk create or update. {@code items} holds one entry per request element,
+ * in request order, so callers can match results by {@code index}.
+ */
+public class BulkCaseResultDto {
+    
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        INVALID,
+        CONFLICT,
+        NOT_FOUND
+    }
+    
+    private List<Item> items = new ArrayList<>();
+    
+    // Constructors
+    public BulkCaseResultDto() {}
+    
+    public void add(int index, String caseId, Outcome outcome, String message) {
+        items.add(new Item(index, caseId, outcome, message));
+    }
+    
+    public int getTotal() {
+        return items.size();
+    }
+    
+    public int getSucceeded() {
+        int succeeded = 0;
+        for (Item item : items) {
+            if (item.isSucceeded()) {
+                succeeded++;
+            }
+        }
+        return succeeded;
+    }
+    
+    public int getFailed() {
+        return getTotal() - getSucceeded();
+    }
+    
+    // Getters and Setters
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+    
+    public static class Item {
+        
+        private int index;
+        private String caseId;
+        private Outcome outcome;
+        private String message;
+        
+        // Constructors
+        public Item() {}
+        
+        public Item(int index, String caseId, Outcome outcome, String message) {
+            this.index = index;
+            this.caseId = caseId;
+            this.outcome = outcome;
+            this.message = message;
+        }
+        
+        public boolean isSucceeded() {
+            return outcome == Outcome.CREATED || outcome == Outcome.UPDATED;
+        }
+        
+        // Getters and Setters
+        public int getIndex() {
+            return index;
+        }
+        
+        public void setIndex(int index) {
+            this.index = index;
+        }
+        
+        public String getCaseId() {
+            return caseId;
+        }
+        
+        public void setCaseId(String caseId) {
+            this.caseId = caseId;
+        }
+        
+        public Outcome getOutcome() {
+            return outcome;
+        }
+        
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.casemgmt.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in the case change feed ({@code GET /api/cases/stream}). {@code data} carries the
+ * full case for single-case writes; bulk writes and imports only identify what changed, and
+ * clients that need the details fetch them.
+ */
+public class CaseChangeDto {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        ATTACHMENT_ADDED,
+        IMPORTED
+    }
+    
+    private Type type;
+    private String caseId;
+    private Long version;
+    private CaseDto data;
+    private String attachment;
+    private Integer count;
+    private LocalDateTime timestamp = LocalDateTime.now();
+    
+    // Constructors
+    public CaseChangeDto() {}
+    
+    private CaseChangeDto(Type type, String caseId) {
+        this.type = type;
+        this.caseId = caseId;
+    }
+    
+    public static CaseChangeDto created(CaseDto caseDto) {
+        CaseChangeDto change = new CaseChangeDto(Type.CREATED, caseDto.getCaseId());
+        change.version = caseDto.getVersion();
+        change.data = caseDto;
+        return change;
+    }
+    
+    public static CaseChangeDto created(String caseId, Long version) {
+        CaseChangeDto change = new CaseChangeDto(Type.CREATED, caseId);
+        change.version = version;
+        return change;
+    }
+    
+    public static CaseChangeDto updated(CaseDto caseDto) {
+        CaseChangeDto change = new CaseChangeDto(Type.UPDATED, caseDto.getCaseId());
+        change.version = caseDto.getVersion();
+        change.data = caseDto;
+        return change;
+    }
+    
+    public static CaseChangeDto updated(String caseId, Long version) {
+        CaseChangeDto change = new CaseChangeDto(Type.UPDATED, caseId);
+        change.version = version;
+        return change;
+    }
+    
+    public static CaseChangeDto attachmentAdded(String caseId, String attachment) {
+        CaseChangeDto change = new CaseChangeDto(Type.ATTACHMENT_ADDED, caseId);
+        change.attachment = attachment;
+        return change;
+    }
+    
+    public static CaseChangeDto imported(int count) {
+        CaseChangeDto change = new CaseChangeDto(Type.IMPORTED, null);
+        change.count = count;
+        return change;
+    }
+    
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+    
+    public void setType(Type type) {
+        this.type = type;
+    }
+    
+    public String getCaseId() {
+        return caseId;
+    }
+    
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public CaseDto getData() {
+        return data;
+    }
+    
+    public void setData(CaseDto data) {
+        this.data = data;
+    }
+    
+    public String getAttachment() {
+        return attachment;
+    }
+    
+    public void setAttachment(String attachment) {
+        this.attachment = attachment;
+    }
+    
+    public Integer getCount() {
+        return count;
+    }
+    
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.casemgmt.dto;
 
 import com.example.casemgmt.model.CaseStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -50,9 +51,25 @@ public class CaseDto {
     private String subProgram;
     private String overallCaseLead;
     
+    // Read-only; mirrors the entity version and the ETag
+    private Long version;
+    
+    // Bit per CaseField whose setter has been called; drives partial updates
+    @JsonIgnore
+    private long presentFields;
+    
     // Constructors
     public CaseDto() {}
     
+    @JsonIgnore
+    public long getPresentFields() {
+        return presentFields;
+    }
+    
+    public boolean isPresent(CaseField field) {
+        return (presentFields & field.mask()) != 0;
+    }
+    
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -76,6 +93,7 @@ public class CaseDto {
     
     public void setType(String type) {
         this.type = type;
+        presentFields |= CaseField.TYPE.mask();
     }
     
     public CaseStatus getStatus() {
@@ -84,6 +102,7 @@ public class CaseDto {
     
     public void setStatus(CaseStatus status) {
         this.status = status;
+        presentFields |= CaseField.STATUS.mask();
     }
     
     public LocalDateTime getCreatedDate() {
@@ -108,6 +127,7 @@ public class CaseDto {
     
     public void setOwner(String owner) {
         this.owner = owner;
+        presentFields |= CaseField.OWNER.mask();
     }
     
     public String getDescription() {
@@ -116,6 +136,7 @@ public class CaseDto {
     
     public void setDescription(String description) {
         this.description = description;
+        presentFields |= CaseField.DESCRIPTION.mask();
     }
     
     public List<String> getAttachments() {
@@ -124,6 +145,7 @@ public class CaseDto {
     
     public void setAttachments(List<String> attachments) {
         this.attachments = attachments;
+        presentFields |= CaseField.ATTACHMENTS.mask();
     }
     
     public String getBank() {
@@ -132,6 +154,7 @@ public class CaseDto {
     
     public void setBank(String bank) {
         this.bank = bank;
+        presentFields |= CaseField.BANK.mask();
     }
     
     public BigDecimal getFineAmount() {
@@ -140,6 +163,7 @@ public class CaseDto {
     
     public void setFineAmount(BigDecimal fineAmount) {
         this.fineAmount = fineAmount;
+        presentFields |= CaseField.FINE_AMOUNT.mask();
     }
     
     public String getNotes() {
@@ -148,6 +172,7 @@ public class CaseDto {
     
     public void setNotes(String notes) {
         this.notes = notes;
+        presentFields |= CaseField.NOTES.mask();
     }
     
     public String getComplainantType() {
@@ -156,6 +181,7 @@ public class CaseDto {
     
     public void setComplainantType(String complainantType) {
         this.complainantType = complainantType;
+        presentFields |= CaseField.COMPLAINANT_TYPE.mask();
     }
     
     public String getComplainantCompany() {
@@ -164,6 +190,7 @@ public class CaseDto {
     
     public void setComplainantCompany(String complainantCompany) {
         this.complainantCompany = complainantCompany;
+        presentFields |= CaseField.COMPLAINANT_COMPANY.mask();
     }
     
     public String getComplainantIca() {
@@ -172,6 +199,7 @@ public class CaseDto {
     
     public void setComplainantIca(String complainantIca) {
         this.complainantIca = complainantIca;
+        presentFields |= CaseField.COMPLAINANT_ICA.mask();
     }
     
     public String getComplainantCountry() {
@@ -180,6 +208,7 @@ public class CaseDto {
     
     public void setComplainantCountry(String complainantCountry) {
         this.complainantCountry = complainantCountry;
+        presentFields |= CaseField.COMPLAINANT_COUNTRY.mask();
     }
     
     public String getComplainantRegion() {
@@ -188,6 +217,7 @@ public class CaseDto {
     
     public void setComplainantRegion(String complainantRegion) {
         this.complainantRegion = complainantRegion;
+        presentFields |= CaseField.COMPLAINANT_REGION.mask();
     }
     
     public String getAcquirerPrimaryIca() {
@@ -196,6 +226,7 @@ public class CaseDto {
     
     public void setAcquirerPrimaryIca(String acquirerPrimaryIca) {
         this.acquirerPrimaryIca = acquirerPrimaryIca;
+        presentFields |= CaseField.ACQUIRER_PRIMARY_ICA.mask();
     }
     
     public String getAcquirerCountry() {
@@ -204,6 +235,7 @@ public class CaseDto {
     
     public void setAcquirerCountry(String acquirerCountry) {
         this.acquirerCountry = acquirerCountry;
+        presentFields |= CaseField.ACQUIRER_COUNTRY.mask();
     }
     
     public String getAcquirerRegion() {
@@ -212,6 +244,7 @@ public class CaseDto {
     
     public void setAcquirerRegion(String acquirerRegion) {
         this.acquirerRegion = acquirerRegion;
+        presentFields |= CaseField.ACQUIRER_REGION.mask();
     }
     
     public String getSubProgram() {
@@ -220,6 +253,7 @@ public class CaseDto {
     
     public void setSubProgram(String subProgram) {
         this.subProgram = subProgram;
+        presentFields |= CaseField.SUB_PROGRAM.mask();
     }
     
     public String getOverallCaseLead() {
@@ -228,8 +262,14 @@ public class CaseDto {
     
     public void setOverallCaseLead(String overallCaseLead) {
         this.overallCaseLead = overallCaseLead;
+        presentFields |= CaseField.OVERALL_CASE_LEAD.mask();
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
     }
 }
-
-
-
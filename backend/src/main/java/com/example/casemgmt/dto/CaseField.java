@@ -0,0 +1,39 @@
+package com.example.casemgmt.dto;
+
+/**
+ * Writable case fields, one bit each in {@link CaseDto#getPresentFields()}. Setting a field on a
+ * {@link CaseDto} (including through JSON deserialization) marks its bit, so a partial update
+ * knows exactly which fields the client sent.
+ */
+public enum CaseField {
+    TYPE,
+    STATUS,
+    OWNER,
+    DESCRIPTION,
+    ATTACHMENTS,
+    BANK,
+    FINE_AMOUNT,
+    NOTES,
+    COMPLAINANT_TYPE,
+    COMPLAINANT_COMPANY,
+    COMPLAINANT_ICA,
+    COMPLAINANT_COUNTRY,
+    COMPLAINANT_REGION,
+    ACQUIRER_PRIMARY_ICA,
+    ACQUIRER_COUNTRY,
+    ACQUIRER_REGION,
+    SUB_PROGRAM,
+    OVERALL_CASE_LEAD;
+    
+    private static final CaseField[] VALUES = values();
+    
+    private final long mask = 1L << ordinal();
+    
+    public long mask() {
+        return mask;
+    }
+    
+    public static CaseField ofOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
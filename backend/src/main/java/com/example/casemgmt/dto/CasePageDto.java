@@ -0,0 +1,52 @@
+package com.example.casemgmt.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of case summaries. {@code nextCursor} is an opaque token to pass back
+ * as {@code cursor} for the following page; it is {@code null} on the last page.
+ */
+public class CasePageDto {
+    
+    private List<CaseSummary> items;
+    private int size;
+    private String nextCursor;
+    
+    // Constructors
+    public CasePageDto() {}
+    
+    public CasePageDto(List<CaseSummary> items, int size, String nextCursor) {
+        this.items = items;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<CaseSummary> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<CaseSummary> items) {
+        this.items = items;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.casemgmt.dto;
+
+import com.example.casemgmt.model.CaseStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of full-text search hits, best match first. {@code total} counts every matching case,
+ * not just the ones on this page.
+ */
+public class CaseSearchResultDto {
+    
+    private String query;
+    private int page;
+    private int size;
+    private int total;
+    private List<Hit> hits = new ArrayList<>();
+    
+    // Constructors
+    public CaseSearchResultDto() {}
+    
+    public CaseSearchResultDto(String query, int page, int size) {
+        this.query = query;
+        this.page = page;
+        this.size = size;
+    }
+    
+    public boolean isHasMore() {
+        return (long) (page + 1) * size < total;
+    }
+    
+    // Getters and Setters
+    public String getQuery() {
+        return query;
+    }
+    
+    public void setQuery(String query) {
+        this.query = query;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public void setPage(int page) {
+        this.page = page;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public List<Hit> getHits() {
+        return hits;
+    }
+    
+    public void setHits(List<Hit> hits) {
+        this.hits = hits;
+    }
+    
+    public static class Hit {
+        
+        private String caseId;
+        private CaseStatus status;
+        private double score;
+        // Excerpt of description or notes around the first matching word
+        private String snippet;
+        
+        // Constructors
+        public Hit() {}
+        
+        public Hit(String caseId, CaseStatus status, double score, String snippet) {
+            this.caseId = caseId;
+            this.status = status;
+            this.score = score;
+            this.snippet = snippet;
+        }
+        
+        // Getters and Setters
+        public String getCaseId() {
+            return caseId;
+        }
+        
+        public void setCaseId(String caseId) {
+            this.caseId = caseId;
+        }
+        
+        public CaseStatus getStatus() {
+            return status;
+        }
+        
+        public void setStatus(CaseStatus status) {
+            this.status = status;
+        }
+        
+        public double getScore() {
+            return score;
+        }
+        
+        public void setScore(double score) {
+            this.score = score;
+        }
+        
+        public String getSnippet() {
+            return snippet;
+        }
+        
+        public void setSnippet(String snippet) {
+            this.snippet = snippet;
+        }
+    }
+}
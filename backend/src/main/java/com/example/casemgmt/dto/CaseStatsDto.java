@@ -0,0 +1,104 @@
+package com.example.casemgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Case counts (and optionally fine totals) grouped by the requested dimensions, largest groups
+ * first. Sums are omitted from the JSON unless they were requested.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CaseStatsDto {
+    
+    private List<String> groupBy;
+    private long totalCount;
+    private BigDecimal totalFineAmount;
+    private List<Group> groups = new ArrayList<>();
+    
+    // Constructors
+    public CaseStatsDto() {}
+    
+    public CaseStatsDto(List<String> groupBy) {
+        this.groupBy = groupBy;
+    }
+    
+    // Getters and Setters
+    public List<String> getGroupBy() {
+        return groupBy;
+    }
+    
+    public void setGroupBy(List<String> groupBy) {
+        this.groupBy = groupBy;
+    }
+    
+    public long getTotalCount() {
+        return totalCount;
+    }
+    
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+    
+    public BigDecimal getTotalFineAmount() {
+        return totalFineAmount;
+    }
+    
+    public void setTotalFineAmount(BigDecimal totalFineAmount) {
+        this.totalFineAmount = totalFineAmount;
+    }
+    
+    public List<Group> getGroups() {
+        return groups;
+    }
+    
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Group {
+        
+        // Dimension name -> value; a null value groups cases where the column is empty
+        private Map<String, String> keys;
+        private long count;
+        private BigDecimal fineAmount;
+        
+        // Constructors
+        public Group() {}
+        
+        public Group(Map<String, String> keys, long count, BigDecimal fineAmount) {
+            this.keys = keys;
+            this.count = count;
+            this.fineAmount = fineAmount;
+        }
+        
+        // Getters and Setters
+        public Map<String, String> getKeys() {
+            return keys;
+        }
+        
+        public void setKeys(Map<String, String> keys) {
+            this.keys = keys;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public void setCount(long count) {
+            this.count = count;
+        }
+        
+        public BigDecimal getFineAmount() {
+            return fineAmount;
+        }
+        
+        public void setFineAmount(BigDecimal fineAmount) {
+            this.fineAmount = fineAmount;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.casemgmt.dto;
+
+import com.example.casemgmt.model.CaseStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Interface projection over {@code cases} carrying only the columns the case table renders.
+ * Selecting through this projection skips the TEXT columns and the attachments collection.
+ */
+public interface CaseSummary {
+    
+    UUID getId();
+    
+    String getCaseId();
+    
+    String getType();
+    
+    CaseStatus getStatus();
+    
+    LocalDateTime getCreatedDate();
+    
+    String getOwner();
+    
+    String getBank();
+    
+    String getComplainantType();
+    
+    String getAcquirerPrimaryIca();
+    
+    String getAcquirerCountry();
+    
+    String getOverallCaseLead();
+}
@@ -0,0 +1,96 @@
+package com.example.casemgmt.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tracking record for one outbound "email bank" request. Updated by the dispatcher thread
+ * and read by status polls, hence the volatile fields.
+ */
+public class EmailDispatchDto {
+    
+    public enum Status {
+        QUEUED,
+        SENDING,
+        SENT,
+        FAILED
+    }
+    
+    private String trackingId;
+    private String caseId;
+    private String bank;
+    private volatile Status status = Status.QUEUED;
+    private LocalDateTime queuedAt;
+    private volatile LocalDateTime sentAt;
+    private volatile String message;
+    
+    // Constructors
+    public EmailDispatchDto() {}
+    
+    public EmailDispatchDto(String trackingId, String caseId, String bank) {
+        this.trackingId = trackingId;
+        this.caseId = caseId;
+        this.bank = bank;
+        this.queuedAt = LocalDateTime.now();
+    }
+    
+    public boolean isFinished() {
+        return status == Status.SENT || status == Status.FAILED;
+    }
+    
+    // Getters and Setters
+    public String getTrackingId() {
+        return trackingId;
+    }
+    
+    public void setTrackingId(String trackingId) {
+        this.trackingId = trackingId;
+    }
+    
+    public String getCaseId() {
+        return caseId;
+    }
+    
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
+    }
+    
+    public String getBank() {
+        return bank;
+    }
+    
+    public void setBank(String bank) {
+        this.bank = bank;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getQueuedAt() {
+        return queuedAt;
+    }
+    
+    public void setQueuedAt(LocalDateTime queuedAt) {
+        this.queuedAt = queuedAt;
+    }
+    
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+    
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
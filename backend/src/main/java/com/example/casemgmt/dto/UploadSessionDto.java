@@ -0,0 +1,145 @@
+package com.example.casemgmt.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A resumable chunked upload. The client sends purpose, target, filename, content type, total
+ * size and optionally a chunk size to start one; the server answers with the upload ID, the
+ * chunk size it accepted and, on every status or chunk response, the offsets still missing.
+ * Once completed it carries the attachment name or import job the file was handed to.
+ */
+public class UploadSessionDto {
+    
+    public enum Purpose {
+        EVIDENCE,
+        ALERT
+    }
+    
+    public enum Status {
+        OPEN,
+        COMPLETED
+    }
+    
+    private String uploadId;
+    private Purpose purpose;
+    private String caseId;
+    private String filename;
+    private String contentType;
+    private Long size;
+    private Long chunkSize;
+    private Status status;
+    private int chunkCount;
+    private long receivedBytes;
+    private List<Long> missingOffsets = new ArrayList<>();
+    private String attachmentName;
+    private String jobId;
+    
+    // Constructors
+    public UploadSessionDto() {}
+    
+    // Getters and Setters
+    public String getUploadId() {
+        return uploadId;
+    }
+    
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+    
+    public Purpose getPurpose() {
+        return purpose;
+    }
+    
+    public void setPurpose(Purpose purpose) {
+        this.purpose = purpose;
+    }
+    
+    public String getCaseId() {
+        return caseId;
+    }
+    
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
+    }
+    
+    public String getFilename() {
+        return filename;
+    }
+    
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public Long getSize() {
+        return size;
+    }
+    
+    public void setSize(Long size) {
+        this.size = size;
+    }
+    
+    public Long getChunkSize() {
+        return chunkSize;
+    }
+    
+    public void setChunkSize(Long chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+    
+    public long getReceivedBytes() {
+        return receivedBytes;
+    }
+    
+    public void setReceivedBytes(long receivedBytes) {
+        this.receivedBytes = receivedBytes;
+    }
+    
+    public List<Long> getMissingOffsets() {
+        return missingOffsets;
+    }
+    
+    public void setMissingOffsets(List<Long> missingOffsets) {
+        this.missingOffsets = missingOffsets;
+    }
+    
+    public String getAttachmentName() {
+        return attachmentName;
+    }
+    
+    public void setAttachmentName(String attachmentName) {
+        this.attachmentName = attachmentName;
+    }
+    
+    public String getJobId() {
+        return jobId;
+    }
+    
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+}
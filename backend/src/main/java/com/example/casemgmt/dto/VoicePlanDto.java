@@ -0,0 +1,197 @@
+package com.example.casemgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of {@code /voice-agent/plan}: the steps to run, the detected intent and the entities
+ * extracted from the command. Same shape as the Node voice-agent-server response, which the
+ * voice agent library reads {@code plan} from. {@code /voice-agent/execute} also fills in the
+ * cases the plan refers to.
+ */
+public class VoicePlanDto {
+    
+    private List<Step> plan = new ArrayList<>();
+    private Intent intent;
+    private Map<String, String> entities = new LinkedHashMap<>();
+    // Only set when the command was executed and it refers to cases
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CaseDto> cases;
+    
+    // Constructors
+    public VoicePlanDto() {}
+    
+    // Getters and Setters
+    public List<Step> getPlan() {
+        return plan;
+    }
+    
+    public void setPlan(List<Step> plan) {
+        this.plan = plan;
+    }
+    
+    public Intent getIntent() {
+        return intent;
+    }
+    
+    public void setIntent(Intent intent) {
+        this.intent = intent;
+    }
+    
+    public Map<String, String> getEntities() {
+        return entities;
+    }
+    
+    public void setEntities(Map<String, String> entities) {
+        this.entities = entities;
+    }
+    
+    public List<CaseDto> getCases() {
+        return cases;
+    }
+    
+    public void setCases(List<CaseDto> cases) {
+        this.cases = cases;
+    }
+    
+    public static class Intent {
+        
+        private String name;
+        private double confidence;
+        private String description;
+        
+        // Constructors
+        public Intent() {}
+        
+        public Intent(String name, double confidence, String description) {
+            this.name = name;
+            this.confidence = confidence;
+            this.description = description;
+        }
+        
+        // Getters and Setters
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public double getConfidence() {
+            return confidence;
+        }
+        
+        public void setConfidence(double confidence) {
+            this.confidence = confidence;
+        }
+        
+        public String getDescription() {
+            return description;
+        }
+        
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+    
+    /**
+     * One step of a plan: a UI action ({@code ui}), an HTTP call ({@code api}) or nothing
+     * ({@code noop}, with a reason). Fields that do not apply to the kind are omitted.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Step {
+        
+        private String kind;
+        private String action;
+        private String target;
+        // A string, or an object of strings for actions such as upload
+        private Object value;
+        private String method;
+        private String url;
+        private String successMessage;
+        private String reason;
+        
+        // Constructors
+        public Step() {}
+        
+        public Step(String kind) {
+            this.kind = kind;
+        }
+        
+        public static Step noop(String reason) {
+            Step step = new Step("noop");
+            step.setReason(reason);
+            return step;
+        }
+        
+        // Getters and Setters
+        public String getKind() {
+            return kind;
+        }
+        
+        public void setKind(String kind) {
+            this.kind = kind;
+        }
+        
+        public String getAction() {
+            return action;
+        }
+        
+        public void setAction(String action) {
+            this.action = action;
+        }
+        
+        public String getTarget() {
+            return target;
+        }
+        
+        public void setTarget(String target) {
+            this.target = target;
+        }
+        
+        public Object getValue() {
+            return value;
+        }
+        
+        public void setValue(Object value) {
+            this.value = value;
+        }
+        
+        public String getMethod() {
+            return method;
+        }
+        
+        public void setMethod(String method) {
+            this.method = method;
+        }
+        
+        public String getUrl() {
+            return url;
+        }
+        
+        public void setUrl(String url) {
+            this.url = url;
+        }
+        
+        public String getSuccessMessage() {
+            return successMessage;
+        }
+        
+        public void setSuccessMessage(String successMessage) {
+            this.successMessage = successMessage;
+        }
+        
+        public String getReason() {
+            return reason;
+        }
+        
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.casemgmt.evidence;
+
+import java.nio.file.Path;
+
+/**
+ * A case attachment resolved to the stored file that holds its content.
+ */
+public record EvidenceFile(String name, Path path, long size, String contentType, String sha256) {}
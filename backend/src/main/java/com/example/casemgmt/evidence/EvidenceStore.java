@@ -0,0 +1,172 @@
+package com.example.casemgmt.evidence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed evidence files on local disk. Each distinct content is kept once, under
+ * {@code blobs/<first two hex digits>/<sha256>}, no matter how many cases attach it.
+ * <p>
+ * Uploads are copied with {@link FileChannel#transferFrom} into a temporary file while the
+ * SHA-256 is computed on the way through, then moved into place, so an upload costs a fixed
+ * small buffer of heap however large the file is.
+ */
+@Component
+public class EvidenceStore {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EvidenceStore.class);
+    
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+    // Upper bound per transferFrom call; the call returns early at end of stream
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+    private static final int HASH_BUFFER_SIZE = 256 * 1024;
+    
+    private final Path blobs;
+    private final Path incoming;
+    
+    /**
+     * Location and size of one stored content.
+     */
+    public record StoredBlob(String sha256, long size) {}
+    
+    public EvidenceStore(@Value("${casemgmt.evidence.dir:data/evidence}") Path root) {
+        this.blobs = root.resolve("blobs");
+        this.incoming = root.resolve("incoming");
+        try {
+            Files.createDirectories(blobs);
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create evidence store at " + root.toAbsolutePath(), e);
+        }
+    }
+    
+    /**
+     * Copies {@code content} into the store and closes it. Content that is already stored is
+     * not written a second time.
+     */
+    public StoredBlob store(InputStream content) throws IOException {
+        MessageDigest digest = newDigest();
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, digest));
+                 FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                long transferred;
+                while ((transferred = target.transferFrom(source, size, TRANSFER_CHUNK)) > 0) {
+                    size += transferred;
+                }
+                target.force(false);
+            }
+            
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path blob = blobPath(sha256);
+            if (Files.exists(blob)) {
+                logger.debug("Evidence {} already stored, discarding duplicate upload", sha256);
+                return new StoredBlob(sha256, size);
+            }
+            Files.createDirectories(blob.getParent());
+            try {
+                Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // The same content finished uploading concurrently
+            }
+            return new StoredBlob(sha256, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    /**
+     * Adds a complete file to the store, hashing it in place first. The content is hard-linked
+     * into the store where the file system allows it and copied otherwise; {@code source} itself
+     * is left in place for the caller to delete once the blob is referenced.
+     */
+    public StoredBlob store(Path source) throws IOException {
+        MessageDigest digest = newDigest();
+        long size;
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            size = channel.size();
+            // Direct buffer, so hashing a large file does not grow the heap
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        Path blob = blobPath(sha256);
+        if (Files.exists(blob)) {
+            return new StoredBlob(sha256, size);
+        }
+        Files.createDirectories(blob.getParent());
+        try {
+            Files.createLink(blob, source);
+        } catch (FileAlreadyExistsException e) {
+            // The same content was stored concurrently
+        } catch (UnsupportedOperationException | IOException e) {
+            // Upload directory on another file system than the store, or no hard links
+            copyInto(source, blob);
+        }
+        return new StoredBlob(sha256, size);
+    }
+    
+    private void copyInto(Path source, Path blob) throws IOException {
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            try {
+                Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // The same content was stored concurrently
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+    
+    /**
+     * Returns the file holding {@code sha256}, if it is stored.
+     */
+    public Optional<Path> find(String sha256) {
+        if (sha256 == null || !SHA256.matcher(sha256).matches()) {
+            return Optional.empty();
+        }
+        Path blob = blobPath(sha256);
+        return Files.isRegularFile(blob) ? Optional.of(blob) : Optional.empty();
+    }
+    
+    private Path blobPath(String sha256) {
+        return blobs.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.casemgmt.index;
+
+import com.example.casemgmt.model.CaseEntity;
+
+import java.util.UUID;
+
+/**
+ * An in-memory view over {@code cases}, loaded by {@link CaseIndexLoader} at startup and kept in
+ * step with every later write by {@link CaseIndexListener}.
+ *
+ * @param <S> immutable copy of the columns the index reads from a case
+ */
+public interface CaseIndex<S> {
+    
+    /**
+     * Copies what the index needs from {@code entity}. Called when the write is flushed, as the
+     * managed entity may change again before the transaction commits.
+     */
+    S snapshot(CaseEntity entity);
+    
+    /**
+     * Inserts or replaces one case. Snapshots older than what the index already holds are
+     * ignored, so the startup load and concurrent writes may arrive in either order.
+     */
+    void apply(S snapshot);
+    
+    void remove(UUID id);
+}
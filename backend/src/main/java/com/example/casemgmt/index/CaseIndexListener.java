@@ -0,0 +1,99 @@
+package com.example.casemgmt.index;
+
+import com.example.casemgmt.model.CaseEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JPA listener that feeds every case write, whichever service made it, into each
+ * {@link CaseIndex}. Snapshots are taken at flush and applied only once the transaction commits,
+ * so a rolled-back change never reaches an index. Instantiated by Hibernate through Spring, which
+ * supplies the indexes that exist (JPA test slices run without them).
+ * <p>
+ * An index that fails on a write is marked stale through {@link CaseIndexLoader} and skipped; the
+ * write itself has committed, or is about to, and is never failed on its account.
+ */
+public class CaseIndexListener {
+    
+    @Autowired
+    private ObjectProvider<CaseIndex<?>> indexes;
+    
+    @Autowired
+    private ObjectProvider<CaseIndexLoader> loader;
+    
+    @PostPersist
+    @PostUpdate
+    void onWrite(CaseEntity entity) {
+        UUID id = entity.getId();
+        List<Runnable> actions = new ArrayList<>();
+        forEachIndex(id, index -> actions.add(guarded(index, id, applyLater(index, entity))));
+        afterCommit(actions);
+    }
+    
+    @PostRemove
+    void onRemove(CaseEntity entity) {
+        UUID id = entity.getId();
+        List<Runnable> actions = new ArrayList<>();
+        forEachIndex(id, index -> actions.add(guarded(index, id, () -> index.remove(id))));
+        afterCommit(actions);
+    }
+    
+    private void forEachIndex(UUID id, Consumer<CaseIndex<?>> action) {
+        if (indexes != null) {
+            indexes.forEach(index -> {
+                try {
+                    action.accept(index);
+                } catch (RuntimeException e) {
+                    markStale(index, id, e);
+                }
+            });
+        }
+    }
+    
+    private Runnable guarded(CaseIndex<?> index, UUID id, Runnable action) {
+        return () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                markStale(index, id, e);
+            }
+        };
+    }
+    
+    private void markStale(CaseIndex<?> index, UUID id, RuntimeException e) {
+        if (loader != null) {
+            loader.ifAvailable(available -> available.markStale(index, id, e));
+        }
+    }
+    
+    private static <S> Runnable applyLater(CaseIndex<S> index, CaseEntity entity) {
+        S snapshot = index.snapshot(entity);
+        return () -> index.apply(snapshot);
+    }
+    
+    private void afterCommit(List<Runnable> actions) {
+        if (actions.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            actions.forEach(Runnable::run);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                actions.forEach(Runnable::run);
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.casemgmt.index;
+
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.repository.CaseRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Fills every {@link CaseIndex} with the existing cases at startup, in a single pass over the
+ * table. Writes that commit while this runs are applied by version, so whichever of the two sees
+ * a case last cannot roll it back to an older state.
+ * <p>
+ * With {@code casemgmt.index.background-load} the pass runs on the application task executor, so
+ * a large database does not hold up startup. Until it finishes this reports OUT_OF_SERVICE as the
+ * {@code caseIndex} health contributor, which the readiness group includes, and the endpoints
+ * served from the indexes answer 503.
+ * <p>
+ * A case one index cannot take, during the load or from a later write, does not fail the load or
+ * the write: the index is reported as stale in the health details until the next restart, and
+ * the other indexes carry on.
+ */
+@Component("caseIndex")
+public class CaseIndexLoader implements HealthIndicator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CaseIndexLoader.class);
+    
+    @Autowired
+    private CaseRepository caseRepository;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private List<CaseIndex<?>> indexes;
+    
+    @Lazy
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private TaskExecutor applicationTaskExecutor;
+    
+    @Value("${casemgmt.index.background-load:true}")
+    private boolean backgroundLoad;
+    
+    private volatile boolean loaded;
+    private volatile int loadedCases;
+    private volatile long loadMillis;
+    private volatile Exception failure;
+    private final Map<String, String> staleIndexes = new ConcurrentHashMap<>();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (backgroundLoad) {
+            applicationTaskExecutor.execute(this::load);
+        } else {
+            load();
+        }
+    }
+    
+    public boolean isLoaded() {
+        return loaded;
+    }
+    
+    @Override
+    public Health health() {
+        if (loaded) {
+            Health.Builder health = Health.up().withDetail("cases", loadedCases).withDetail("loadMillis", loadMillis);
+            if (!staleIndexes.isEmpty()) {
+                health.withDetail("stale", Map.copyOf(staleIndexes));
+            }
+            return health.build();
+        }
+        if (failure != null) {
+            return Health.down(failure).build();
+        }
+        return Health.outOfService().build();
+    }
+    
+    void load() {
+        long started = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            Integer count = readOnly.execute(status -> {
+                int read = 0;
+                try (Stream<CaseEntity> cases = caseRepository.streamAll()) {
+                    Iterator<CaseEntity> iterator = cases.iterator();
+                    while (iterator.hasNext()) {
+                        CaseEntity entity = iterator.next();
+                        for (CaseIndex<?> index : indexes) {
+                            load(index, entity);
+                        }
+                        entityManager.detach(entity);
+                        read++;
+                    }
+                }
+                return read;
+            });
+            loadedCases = count != null ? count : 0;
+            loadMillis = (System.nanoTime() - started) / 1_000_000;
+            loaded = true;
+            logger.info("Case indexes loaded {} cases in {} ms", loadedCases, loadMillis);
+        } catch (RuntimeException e) {
+            failure = e;
+            logger.error("Loading the case indexes failed", e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Records that {@code index} no longer reflects every case because it could not take one.
+     */
+    public void markStale(CaseIndex<?> index, UUID caseId, RuntimeException e) {
+        String name = ClassUtils.getUserClass(index).getSimpleName();
+        logger.error("Case index {} could not take case {} and is now stale", name, caseId, e);
+        staleIndexes.merge(name, String.valueOf(e.getMessage()), (first, later) -> first);
+    }
+    
+    private void load(CaseIndex<?> index, CaseEntity entity) {
+        try {
+            apply(index, entity);
+        } catch (RuntimeException e) {
+            markStale(index, entity.getId(), e);
+        }
+    }
+    
+    private static <S> void apply(CaseIndex<S> index, CaseEntity entity) {
+        index.apply(index.snapshot(entity));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.casemgmt.ingest;
+
+import com.example.casemgmt.model.CaseEntity;
+
+import java.util.List;
+
+/**
+ * Persists one batch of mapped cases. Every case in the batch has a case ID that is unique
+ * within the batch and not yet present in the database.
+ */
+@FunctionalInterface
+public interface AlertBatchWriter {
+    
+    void write(List<CaseEntity> batch);
+}
@@ -0,0 +1,155 @@
+package com.example.casemgmt.ingest;
+
+import com.example.casemgmt.dto.AlertImportJobDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.repository.CaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streams an alert file (CSV or .xlsx) row by row, maps rows to cases and hands them to an
+ * {@link AlertBatchWriter} in batches of {@code casemgmt.ingest.batch-size}. Rows that fail
+ * mapping or collide with an existing case ID are rejected and reported, not fatal. Progress
+ * is recorded on the job as rows are read, so callers can poll it while the import runs.
+ */
+@Component
+public class AlertFileIngester {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AlertFileIngester.class);
+    
+    private static final byte[] ZIP_MAGIC = {0x50, 0x4B, 0x03, 0x04};
+    private static final byte[] OLE2_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0};
+    
+    @Autowired
+    private CaseRepository caseRepository;
+    
+    @Value("${casemgmt.ingest.batch-size:500}")
+    private int batchSize;
+    
+    public void ingest(Path file, AlertImportJobDto result, AlertBatchWriter writer) throws IOException {
+        long started = System.nanoTime();
+        BatchingHandler handler = new BatchingHandler(result.getFilename(), result, writer);
+        
+        switch (detectFormat(file)) {
+            case XLSX -> XlsxAlertReader.read(file, handler);
+            case CSV -> {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    CsvAlertReader.read(reader, handler);
+                }
+            }
+            case XLS -> throw new IllegalArgumentException(
+                    "Legacy .xls workbooks are not supported. Please save the file as .xlsx or CSV.");
+        }
+        handler.flush();
+        
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        logger.info("Ingested alert file {}: parsed={}, inserted={}, rejected={}, {} ms",
+                    result.getFilename(), result.getRowsParsed(), result.getRowsInserted(), result.getRowsRejected(),
+                    result.getElapsedMillis());
+    }
+    
+    private enum Format { CSV, XLSX, XLS }
+    
+    private static Format detectFormat(Path file) throws IOException {
+        byte[] magic = new byte[4];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = in.readNBytes(magic, 0, magic.length);
+        }
+        if (read == magic.length && Arrays.equals(magic, ZIP_MAGIC)) {
+            return Format.XLSX;
+        }
+        if (read == magic.length && Arrays.equals(magic, OLE2_MAGIC)) {
+            return Format.XLS;
+        }
+        return Format.CSV;
+    }
+    
+    private final class BatchingHandler implements AlertRowHandler {
+        
+        private final String filename;
+        private final AlertImportJobDto result;
+        private final AlertBatchWriter writer;
+        private final String caseIdPrefix = String.valueOf(System.currentTimeMillis()).substring(5);
+        private final Map<String, Long> pending = new HashMap<>();
+        private List<CaseEntity> batch = new ArrayList<>(batchSize);
+        private AlertRowMapper mapper;
+        
+        BatchingHandler(String filename, AlertImportJobDto result, AlertBatchWriter writer) {
+            this.filename = filename;
+            this.result = result;
+            this.writer = writer;
+        }
+        
+        @Override
+        public void handleRow(long rowNumber, List<String> cells) {
+            if (mapper == null) {
+                mapper = new AlertRowMapper(cells, filename, caseIdPrefix);
+                mapper.validateHeader();
+                return;
+            }
+            
+            result.rowParsed();
+            CaseEntity entity;
+            try {
+                entity = mapper.map(rowNumber, cells);
+            } catch (IllegalArgumentException e) {
+                result.rowRejected(rowNumber, e.getMessage());
+                return;
+            }
+            if (pending.putIfAbsent(entity.getCaseId(), rowNumber) != null) {
+                result.rowRejected(rowNumber, "duplicate case ID " + entity.getCaseId() + " in file");
+                return;
+            }
+            
+            batch.add(entity);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+        
+        void flush() {
+            if (mapper == null) {
+                throw new IllegalArgumentException("Alert file is empty");
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            
+            // One IN query per batch instead of an existence probe per row
+            Set<String> existing = new HashSet<>(caseRepository.findExistingCaseIds(pending.keySet()));
+            List<CaseEntity> accepted = new ArrayList<>(batch.size());
+            for (CaseEntity entity : batch) {
+                if (existing.contains(entity.getCaseId())) {
+                    result.rowRejected(pending.get(entity.getCaseId()), "case ID " + entity.getCaseId() + " already exists");
+                } else {
+                    accepted.add(entity);
+                }
+            }
+            
+            if (!accepted.isEmpty()) {
+                writer.write(accepted);
+                result.rowsInserted(accepted.size());
+            }
+            batch = new ArrayList<>(batchSize);
+            pending.clear();
+        }
+    }
+}
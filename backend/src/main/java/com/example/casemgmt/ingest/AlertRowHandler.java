@@ -0,0 +1,13 @@
+package com.example.casemgmt.ingest;
+
+import java.util.List;
+
+/**
+ * Receives rows from an alert file reader, one at a time, in file order.
+ * {@code rowNumber} is 1-based and counts the header row.
+ */
+@FunctionalInterface
+public interface AlertRowHandler {
+    
+    void handleRow(long rowNumber, List<String> cells);
+}
@@ -0,0 +1,148 @@
+package com.example.casemgmt.ingest;
+
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Maps alert file rows onto {@link CaseEntity} using the header row. Headers are matched
+ * case-insensitively ignoring spaces and punctuation, so {@code caseId}, {@code case_id}
+ * and {@code Case ID} all resolve to the same column. Unknown columns are ignored.
+ */
+class AlertRowMapper {
+    
+    private enum Field {
+        CASE_ID, TYPE, STATUS, OWNER, DESCRIPTION, BANK, FINE_AMOUNT, NOTES,
+        COMPLAINANT_TYPE, COMPLAINANT_COMPANY, COMPLAINANT_ICA, COMPLAINANT_COUNTRY, COMPLAINANT_REGION,
+        ACQUIRER_PRIMARY_ICA, ACQUIRER_COUNTRY, ACQUIRER_REGION, SUB_PROGRAM, OVERALL_CASE_LEAD;
+        
+        private final String key = name().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+    
+    private final Field[] columns;
+    private final String filename;
+    private final String caseIdPrefix;
+    
+    AlertRowMapper(List<String> header, String filename, String caseIdPrefix) {
+        this.columns = new Field[header.size()];
+        for (int i = 0; i < header.size(); i++) {
+            columns[i] = resolve(header.get(i));
+        }
+        this.filename = filename;
+        this.caseIdPrefix = caseIdPrefix;
+    }
+    
+    /**
+     * @throws IllegalArgumentException if a column every row needs is absent from the header
+     */
+    void validateHeader() {
+        for (Field required : new Field[] {Field.TYPE, Field.OWNER, Field.BANK}) {
+            boolean present = false;
+            for (Field column : columns) {
+                present |= column == required;
+            }
+            if (!present) {
+                throw new IllegalArgumentException("Alert file header is missing required column: " + required.key);
+            }
+        }
+    }
+    
+    /**
+     * @throws IllegalArgumentException with a reason suitable for the rejection report
+     */
+    CaseEntity map(long rowNumber, List<String> cells) {
+        CaseEntity entity = new CaseEntity();
+        int width = Math.min(cells.size(), columns.length);
+        for (int i = 0; i < width; i++) {
+            Field field = columns[i];
+            String value = cells.get(i);
+            if (field == null || value == null || (value = value.trim()).isEmpty()) {
+                continue;
+            }
+            apply(entity, field, value);
+        }
+        
+        if (entity.getType() == null) {
+            throw new IllegalArgumentException("missing type");
+        }
+        if (entity.getOwner() == null) {
+            throw new IllegalArgumentException("missing owner");
+        }
+        if (entity.getBank() == null) {
+            throw new IllegalArgumentException("missing bank");
+        }
+        if (entity.getStatus() == null) {
+            entity.setStatus(CaseStatus.NEW);
+        }
+        if (entity.getCaseId() == null) {
+            entity.setCaseId(entity.getType() + "-CS-UPL-" + caseIdPrefix + "-" + rowNumber);
+        }
+        
+        List<String> attachments = new ArrayList<>(1);
+        attachments.add(filename);
+        entity.setAttachments(attachments);
+        return entity;
+    }
+    
+    private void apply(CaseEntity entity, Field field, String value) {
+        switch (field) {
+            case CASE_ID -> entity.setCaseId(value);
+            case TYPE -> entity.setType(value);
+            case STATUS -> entity.setStatus(parseStatus(value));
+            case OWNER -> entity.setOwner(value);
+            case DESCRIPTION -> entity.setDescription(value);
+            case BANK -> entity.setBank(value);
+            case FINE_AMOUNT -> entity.setFineAmount(parseAmount(value));
+            case NOTES -> entity.setNotes(value);
+            case COMPLAINANT_TYPE -> entity.setComplainantType(value);
+            case COMPLAINANT_COMPANY -> entity.setComplainantCompany(value);
+            case COMPLAINANT_ICA -> entity.setComplainantIca(value);
+            case COMPLAINANT_COUNTRY -> entity.setComplainantCountry(value);
+            case COMPLAINANT_REGION -> entity.setComplainantRegion(value);
+            case ACQUIRER_PRIMARY_ICA -> entity.setAcquirerPrimaryIca(value);
+            case ACQUIRER_COUNTRY -> entity.setAcquirerCountry(value);
+            case ACQUIRER_REGION -> entity.setAcquirerRegion(value);
+            case SUB_PROGRAM -> entity.setSubProgram(value);
+            case OVERALL_CASE_LEAD -> entity.setOverallCaseLead(value);
+        }
+    }
+    
+    private static CaseStatus parseStatus(String value) {
+        try {
+            return CaseStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown status '" + value + "'");
+        }
+    }
+    
+    private static BigDecimal parseAmount(String value) {
+        try {
+            return new BigDecimal(value.replace(",", "").replace(" ", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid fineAmount '" + value + "'");
+        }
+    }
+    
+    private static Field resolve(String header) {
+        if (header == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(header.length());
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        for (Field field : Field.values()) {
+            if (field.key.contentEquals(key)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
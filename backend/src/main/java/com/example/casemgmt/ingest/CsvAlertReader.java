@@ -0,0 +1,94 @@
+package com.example.casemgmt.ingest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader that pushes one row at a time to an {@link AlertRowHandler}.
+ * Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+final class CsvAlertReader {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private CsvAlertReader() {}
+    
+    static void read(Reader reader, AlertRowHandler handler) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        StringBuilder field = new StringBuilder();
+        List<String> cells = new ArrayList<>();
+        long rowNumber = 0;
+        boolean inQuotes = false;
+        boolean quotePending = false;
+        boolean afterCarriageReturn = false;
+        boolean firstChar = true;
+        boolean rowHasContent = false;
+        
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (firstChar) {
+                    firstChar = false;
+                    if (c == '\uFEFF') {
+                        continue;
+                    }
+                }
+                if (afterCarriageReturn) {
+                    afterCarriageReturn = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                
+                if (inQuotes) {
+                    if (quotePending) {
+                        quotePending = false;
+                        if (c == '"') {
+                            field.append('"');
+                            continue;
+                        }
+                        inQuotes = false;
+                    } else if (c == '"') {
+                        quotePending = true;
+                        continue;
+                    } else {
+                        field.append(c);
+                        continue;
+                    }
+                }
+                
+                if (c == '"' && field.length() == 0) {
+                    inQuotes = true;
+                    rowHasContent = true;
+                } else if (c == ',') {
+                    cells.add(field.toString());
+                    field.setLength(0);
+                    rowHasContent = true;
+                } else if (c == '\n' || c == '\r') {
+                    afterCarriageReturn = c == '\r';
+                    rowNumber++;
+                    if (rowHasContent || field.length() > 0) {
+                        cells.add(field.toString());
+                        handler.handleRow(rowNumber, cells);
+                        cells = new ArrayList<>(cells.size());
+                    }
+                    field.setLength(0);
+                    rowHasContent = false;
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+        
+        if (inQuotes && !quotePending) {
+            throw new IOException("Unterminated quoted field at end of file");
+        }
+        if (rowHasContent || field.length() > 0) {
+            cells.add(field.toString());
+            handler.handleRow(rowNumber + 1, cells);
+        }
+    }
+}
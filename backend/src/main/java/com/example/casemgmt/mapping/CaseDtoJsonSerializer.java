@@ -0,0 +1,27 @@
+package com.example.casemgmt.mapping;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Registers {@link CaseJsonWriter} with the application's ObjectMapper, so every {@link CaseDto}
+ * response is written without reflection.
+ */
+@JsonComponent
+public class CaseDtoJsonSerializer extends JsonSerializer<CaseDto> {
+    
+    @Override
+    public void serialize(CaseDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        CaseJsonWriter.write(gen, value);
+    }
+    
+    @Override
+    public Class<CaseDto> handledType() {
+        return CaseDto.class;
+    }
+}
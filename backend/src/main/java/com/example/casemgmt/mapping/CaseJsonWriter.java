@@ -0,0 +1,153 @@
+package com.example.casemgmt.mapping;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes cases as JSON field by field with pre-encoded property names, skipping Jackson's
+ * reflective bean serializer. The output matches what Jackson produces for {@link CaseDto}
+ * with the application's ObjectMapper (ISO-8601 dates, nulls included).
+ */
+public final class CaseJsonWriter {
+    
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CASE_ID = new SerializedString("caseId");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_DATE = new SerializedString("createdDate");
+    private static final SerializedString LAST_UPDATED_DATE = new SerializedString("lastUpdatedDate");
+    private static final SerializedString OWNER = new SerializedString("owner");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString ATTACHMENTS = new SerializedString("attachments");
+    private static final SerializedString BANK = new SerializedString("bank");
+    private static final SerializedString FINE_AMOUNT = new SerializedString("fineAmount");
+    private static final SerializedString NOTES = new SerializedString("notes");
+    private static final SerializedString COMPLAINANT_TYPE = new SerializedString("complainantType");
+    private static final SerializedString COMPLAINANT_COMPANY = new SerializedString("complainantCompany");
+    private static final SerializedString COMPLAINANT_ICA = new SerializedString("complainantIca");
+    private static final SerializedString COMPLAINANT_COUNTRY = new SerializedString("complainantCountry");
+    private static final SerializedString COMPLAINANT_REGION = new SerializedString("complainantRegion");
+    private static final SerializedString ACQUIRER_PRIMARY_ICA = new SerializedString("acquirerPrimaryIca");
+    private static final SerializedString ACQUIRER_COUNTRY = new SerializedString("acquirerCountry");
+    private static final SerializedString ACQUIRER_REGION = new SerializedString("acquirerRegion");
+    private static final SerializedString SUB_PROGRAM = new SerializedString("subProgram");
+    private static final SerializedString OVERALL_CASE_LEAD = new SerializedString("overallCaseLead");
+    private static final SerializedString VERSION = new SerializedString("version");
+    
+    private CaseJsonWriter() {}
+    
+    public static void write(JsonGenerator gen, CaseEntity entity, boolean includeAttachments) throws IOException {
+        gen.writeStartObject();
+        writeUuid(gen, ID, entity.getId());
+        writeString(gen, CASE_ID, entity.getCaseId());
+        writeString(gen, TYPE, entity.getType());
+        writeString(gen, STATUS, entity.getStatus() != null ? entity.getStatus().name() : null);
+        writeDate(gen, CREATED_DATE, entity.getCreatedDate());
+        writeDate(gen, LAST_UPDATED_DATE, entity.getLastUpdatedDate());
+        writeString(gen, OWNER, entity.getOwner());
+        writeString(gen, DESCRIPTION, entity.getDescription());
+        if (includeAttachments) {
+            writeList(gen, ATTACHMENTS, entity.getAttachments());
+        }
+        writeString(gen, BANK, entity.getBank());
+        writeNumber(gen, FINE_AMOUNT, entity.getFineAmount());
+        writeString(gen, NOTES, entity.getNotes());
+        writeString(gen, COMPLAINANT_TYPE, entity.getComplainantType());
+        writeString(gen, COMPLAINANT_COMPANY, entity.getComplainantCompany());
+        writeString(gen, COMPLAINANT_ICA, entity.getComplainantIca());
+        writeString(gen, COMPLAINANT_COUNTRY, entity.getComplainantCountry());
+        writeString(gen, COMPLAINANT_REGION, entity.getComplainantRegion());
+        writeString(gen, ACQUIRER_PRIMARY_ICA, entity.getAcquirerPrimaryIca());
+        writeString(gen, ACQUIRER_COUNTRY, entity.getAcquirerCountry());
+        writeString(gen, ACQUIRER_REGION, entity.getAcquirerRegion());
+        writeString(gen, SUB_PROGRAM, entity.getSubProgram());
+        writeString(gen, OVERALL_CASE_LEAD, entity.getOverallCaseLead());
+        writeLong(gen, VERSION, entity.getVersion());
+        gen.writeEndObject();
+    }
+    
+    public static void write(JsonGenerator gen, CaseDto dto) throws IOException {
+        gen.writeStartObject();
+        writeUuid(gen, ID, dto.getId());
+        writeString(gen, CASE_ID, dto.getCaseId());
+        writeString(gen, TYPE, dto.getType());
+        writeString(gen, STATUS, dto.getStatus() != null ? dto.getStatus().name() : null);
+        writeDate(gen, CREATED_DATE, dto.getCreatedDate());
+        writeDate(gen, LAST_UPDATED_DATE, dto.getLastUpdatedDate());
+        writeString(gen, OWNER, dto.getOwner());
+        writeString(gen, DESCRIPTION, dto.getDescription());
+        writeList(gen, ATTACHMENTS, dto.getAttachments());
+        writeString(gen, BANK, dto.getBank());
+        writeNumber(gen, FINE_AMOUNT, dto.getFineAmount());
+        writeString(gen, NOTES, dto.getNotes());
+        writeString(gen, COMPLAINANT_TYPE, dto.getComplainantType());
+        writeString(gen, COMPLAINANT_COMPANY, dto.getComplainantCompany());
+        writeString(gen, COMPLAINANT_ICA, dto.getComplainantIca());
+        writeString(gen, COMPLAINANT_COUNTRY, dto.getComplainantCountry());
+        writeString(gen, COMPLAINANT_REGION, dto.getComplainantRegion());
+        writeString(gen, ACQUIRER_PRIMARY_ICA, dto.getAcquirerPrimaryIca());
+        writeString(gen, ACQUIRER_COUNTRY, dto.getAcquirerCountry());
+        writeString(gen, ACQUIRER_REGION, dto.getAcquirerRegion());
+        writeString(gen, SUB_PROGRAM, dto.getSubProgram());
+        writeString(gen, OVERALL_CASE_LEAD, dto.getOverallCaseLead());
+        writeLong(gen, VERSION, dto.getVersion());
+        gen.writeEndObject();
+    }
+    
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+    
+    private static void writeUuid(JsonGenerator gen, SerializedString name, UUID value) throws IOException {
+        writeString(gen, name, value != null ? value.toString() : null);
+    }
+    
+    private static void writeDate(JsonGenerator gen, SerializedString name, LocalDateTime value) throws IOException {
+        writeString(gen, name, value != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) : null);
+    }
+    
+    private static void writeNumber(JsonGenerator gen, SerializedString name, BigDecimal value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+    
+    private static void writeLong(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+    
+    private static void writeList(JsonGenerator gen, SerializedString name, List<String> values) throws IOException {
+        gen.writeFieldName(name);
+        if (values == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray();
+        for (int i = 0, size = values.size(); i < size; i++) {
+            gen.writeString(values.get(i));
+        }
+        gen.writeEndArray();
+    }
+}
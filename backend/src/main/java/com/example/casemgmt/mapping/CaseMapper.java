@@ -0,0 +1,174 @@
+package com.example.casemgmt.mapping;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.CaseField;
+import com.example.casemgmt.model.CaseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Hand-written entity/DTO conversion. Partial updates walk the set bits of
+ * {@link CaseDto#getPresentFields()} instead of null-checking every field.
+ */
+@Component
+public class CaseMapper {
+    
+    public CaseDto toDto(CaseEntity entity) {
+        CaseDto dto = new CaseDto();
+        dto.setId(entity.getId());
+        dto.setCaseId(entity.getCaseId());
+        dto.setType(entity.getType());
+        dto.setStatus(entity.getStatus());
+        dto.setCreatedDate(entity.getCreatedDate());
+        dto.setLastUpdatedDate(entity.getLastUpdatedDate());
+        dto.setOwner(entity.getOwner());
+        dto.setDescription(entity.getDescription());
+        // Copy so the DTO never holds the entity's lazy collection beyond the session
+        dto.setAttachments(new ArrayList<>(entity.getAttachments()));
+        dto.setBank(entity.getBank());
+        dto.setFineAmount(entity.getFineAmount());
+        dto.setNotes(entity.getNotes());
+        dto.setComplainantType(entity.getComplainantType());
+        dto.setComplainantCompany(entity.getComplainantCompany());
+        dto.setComplainantIca(entity.getComplainantIca());
+        dto.setComplainantCountry(entity.getComplainantCountry());
+        dto.setComplainantRegion(entity.getComplainantRegion());
+        dto.setAcquirerPrimaryIca(entity.getAcquirerPrimaryIca());
+        dto.setAcquirerCountry(entity.getAcquirerCountry());
+        dto.setAcquirerRegion(entity.getAcquirerRegion());
+        dto.setSubProgram(entity.getSubProgram());
+        dto.setOverallCaseLead(entity.getOverallCaseLead());
+        dto.setVersion(entity.getVersion());
+        return dto;
+    }
+    
+    public CaseEntity toEntity(CaseDto dto) {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(dto.getCaseId());
+        entity.setType(dto.getType());
+        entity.setStatus(dto.getStatus());
+        entity.setOwner(dto.getOwner());
+        entity.setDescription(dto.getDescription());
+        entity.setAttachments(dto.getAttachments() != null ? new ArrayList<>(dto.getAttachments()) : new ArrayList<>());
+        entity.setBank(dto.getBank());
+        entity.setFineAmount(dto.getFineAmount());
+        entity.setNotes(dto.getNotes());
+        entity.setComplainantType(dto.getComplainantType());
+        entity.setComplainantCompany(dto.getComplainantCompany());
+        entity.setComplainantIca(dto.getComplainantIca());
+        entity.setComplainantCountry(dto.getComplainantCountry());
+        entity.setComplainantRegion(dto.getComplainantRegion());
+        entity.setAcquirerPrimaryIca(dto.getAcquirerPrimaryIca());
+        entity.setAcquirerCountry(dto.getAcquirerCountry());
+        entity.setAcquirerRegion(dto.getAcquirerRegion());
+        entity.setSubProgram(dto.getSubProgram());
+        entity.setOverallCaseLead(dto.getOverallCaseLead());
+        return entity;
+    }
+    
+    /**
+     * Copies every field the client sent onto {@code entity}. An explicit null clears an optional
+     * field; it is ignored for the required fields (type, status, owner, bank) and attachments.
+     */
+    public void applyPatch(CaseEntity entity, CaseDto dto) {
+        applyPatch(entity, dto, dto.getPresentFields());
+    }
+    
+    /**
+     * Copies only the fields in {@code fields} (a {@link CaseField} bitmask) onto {@code entity}.
+     */
+    public void applyPatch(CaseEntity entity, CaseDto dto, long fields) {
+        long remaining = fields;
+        while (remaining != 0) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            apply(entity, dto, CaseField.ofOrdinal(ordinal));
+        }
+    }
+    
+    /**
+     * Returns the subset of the fields the client sent whose value would actually change
+     * {@code entity}, honouring the same null rules as {@link #applyPatch(CaseEntity, CaseDto)}.
+     */
+    public long diff(CaseEntity entity, CaseDto dto) {
+        long changed = 0;
+        long remaining = dto.getPresentFields();
+        while (remaining != 0) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            CaseField field = CaseField.ofOrdinal(ordinal);
+            if (differs(entity, dto, field)) {
+                changed |= field.mask();
+            }
+        }
+        return changed;
+    }
+    
+    private boolean differs(CaseEntity entity, CaseDto dto, CaseField field) {
+        return switch (field) {
+            case TYPE -> dto.getType() != null && !dto.getType().equals(entity.getType());
+            case STATUS -> dto.getStatus() != null && dto.getStatus() != entity.getStatus();
+            case OWNER -> dto.getOwner() != null && !dto.getOwner().equals(entity.getOwner());
+            case BANK -> dto.getBank() != null && !dto.getBank().equals(entity.getBank());
+            case ATTACHMENTS -> dto.getAttachments() != null && !dto.getAttachments().equals(entity.getAttachments());
+            case DESCRIPTION -> !Objects.equals(dto.getDescription(), entity.getDescription());
+            case FINE_AMOUNT -> dto.getFineAmount() != null && entity.getFineAmount() != null
+                    // BigDecimal.equals also compares scale, so 100.0 and 100.00 would count as a change
+                    ? dto.getFineAmount().compareTo(entity.getFineAmount()) != 0
+                    : dto.getFineAmount() != entity.getFineAmount();
+            case NOTES -> !Objects.equals(dto.getNotes(), entity.getNotes());
+            case COMPLAINANT_TYPE -> !Objects.equals(dto.getComplainantType(), entity.getComplainantType());
+            case COMPLAINANT_COMPANY -> !Objects.equals(dto.getComplainantCompany(), entity.getComplainantCompany());
+            case COMPLAINANT_ICA -> !Objects.equals(dto.getComplainantIca(), entity.getComplainantIca());
+            case COMPLAINANT_COUNTRY -> !Objects.equals(dto.getComplainantCountry(), entity.getComplainantCountry());
+            case COMPLAINANT_REGION -> !Objects.equals(dto.getComplainantRegion(), entity.getComplainantRegion());
+            case ACQUIRER_PRIMARY_ICA -> !Objects.equals(dto.getAcquirerPrimaryIca(), entity.getAcquirerPrimaryIca());
+            case ACQUIRER_COUNTRY -> !Objects.equals(dto.getAcquirerCountry(), entity.getAcquirerCountry());
+            case ACQUIRER_REGION -> !Objects.equals(dto.getAcquirerRegion(), entity.getAcquirerRegion());
+            case SUB_PROGRAM -> !Objects.equals(dto.getSubProgram(), entity.getSubProgram());
+            case OVERALL_CASE_LEAD -> !Objects.equals(dto.getOverallCaseLead(), entity.getOverallCaseLead());
+        };
+    }
+    
+    private void apply(CaseEntity entity, CaseDto dto, CaseField field) {
+        switch (field) {
+            case TYPE -> {
+                if (dto.getType() != null) entity.setType(dto.getType());
+            }
+            case STATUS -> {
+                if (dto.getStatus() != null) entity.setStatus(dto.getStatus());
+            }
+            case OWNER -> {
+                if (dto.getOwner() != null) entity.setOwner(dto.getOwner());
+            }
+            case BANK -> {
+                if (dto.getBank() != null) entity.setBank(dto.getBank());
+            }
+            case ATTACHMENTS -> {
+                if (dto.getAttachments() != null) replaceAttachments(entity, dto.getAttachments());
+            }
+            case DESCRIPTION -> entity.setDescription(dto.getDescription());
+            case FINE_AMOUNT -> entity.setFineAmount(dto.getFineAmount());
+            case NOTES -> entity.setNotes(dto.getNotes());
+            case COMPLAINANT_TYPE -> entity.setComplainantType(dto.getComplainantType());
+            case COMPLAINANT_COMPANY -> entity.setComplainantCompany(dto.getComplainantCompany());
+            case COMPLAINANT_ICA -> entity.setComplainantIca(dto.getComplainantIca());
+            case COMPLAINANT_COUNTRY -> entity.setComplainantCountry(dto.getComplainantCountry());
+            case COMPLAINANT_REGION -> entity.setComplainantRegion(dto.getComplainantRegion());
+            case ACQUIRER_PRIMARY_ICA -> entity.setAcquirerPrimaryIca(dto.getAcquirerPrimaryIca());
+            case ACQUIRER_COUNTRY -> entity.setAcquirerCountry(dto.getAcquirerCountry());
+            case ACQUIRER_REGION -> entity.setAcquirerRegion(dto.getAcquirerRegion());
+            case SUB_PROGRAM -> entity.setSubProgram(dto.getSubProgram());
+            case OVERALL_CASE_LEAD -> entity.setOverallCaseLead(dto.getOverallCaseLead());
+        }
+    }
+    
+    private void replaceAttachments(CaseEntity entity, List<String> attachments) {
+        // Mutate the managed collection in place so Hibernate keeps tracking it
+        entity.getAttachments().clear();
+        entity.getAttachments().addAll(attachments);
+    }
+}
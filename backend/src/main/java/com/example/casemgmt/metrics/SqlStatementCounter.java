@@ -0,0 +1,35 @@
+package com.example.casemgmt.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a count is open.
+ * Registered as Hibernate's statement inspector, so it sees every statement without wrapping
+ * the data source; outside an open count it costs one thread-local read.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+    
+    @Override
+    public String inspect(String sql) {
+        long[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+    
+    static void begin() {
+        CURRENT.set(new long[1]);
+    }
+    
+    /**
+     * Closes the count opened on this thread and returns it.
+     */
+    static long end() {
+        long[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.casemgmt.model;
 
+import com.example.casemgmt.index.CaseIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,7 +15,13 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "cases")
+@Table(name = "cases", indexes = {
+    @Index(name = "idx_cases_created_date_id", columnList = "created_date, id"),
+    @Index(name = "idx_cases_status_created_date", columnList = "status, created_date"),
+    @Index(name = "idx_cases_owner_status", columnList = "owner, status"),
+    @Index(name = "idx_cases_bank_status", columnList = "bank, status")
+})
+@EntityListeners(CaseIndexListener.class)
 public class CaseEntity {
     
     @Id
@@ -93,6 +101,12 @@ public class CaseEntity {
     @Column(name = "overall_case_lead")
     private String overallCaseLead;
     
+    // Optimistic lock; bumped by Hibernate on every update
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     // Constructors
     public CaseEntity() {}
     
@@ -272,7 +286,12 @@ public class CaseEntity {
     public void setOverallCaseLead(String overallCaseLead) {
         this.overallCaseLead = overallCaseLead;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
-
-
-
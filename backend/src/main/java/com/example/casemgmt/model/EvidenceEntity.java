@@ -0,0 +1,111 @@
+package com.example.casemgmt.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Where the bytes of one case attachment live. The attachment name is what the case lists;
+ * the content itself is stored once per distinct SHA-256 in the evidence store.
+ */
+@Entity
+@Table(name = "case_evidence", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_case_evidence_case_name", columnNames = {"case_id", "name"})
+}, indexes = {
+    @Index(name = "idx_case_evidence_sha256", columnList = "sha256")
+})
+public class EvidenceEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @Column(name = "case_id", nullable = false)
+    private String caseId;
+    
+    @Column(name = "name", nullable = false)
+    private String name;
+    
+    @Column(name = "sha256", nullable = false, length = 64)
+    private String sha256;
+    
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+    
+    @Column(name = "content_type")
+    private String contentType;
+    
+    @CreationTimestamp
+    @Column(name = "uploaded_date", nullable = false, updatable = false)
+    private LocalDateTime uploadedDate;
+    
+    // Constructors
+    public EvidenceEntity() {}
+    
+    public EvidenceEntity(String caseId, String name, String sha256, long size, String contentType) {
+        this.caseId = caseId;
+        this.name = name;
+        this.sha256 = sha256;
+        this.size = size;
+        this.contentType = contentType;
+    }
+    
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public String getCaseId() {
+        return caseId;
+    }
+    
+    public void setCaseId(String caseId) {
+        this.caseId = caseId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getSha256() {
+        return sha256;
+    }
+    
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+    
+    public long getSize() {
+        return size;
+    }
+    
+    public void setSize(long size) {
+        this.size = size;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public LocalDateTime getUploadedDate() {
+        return uploadedDate;
+    }
+    
+    public void setUploadedDate(LocalDateTime uploadedDate) {
+        this.uploadedDate = uploadedDate;
+    }
+}
@@ -1,19 +1,43 @@
 package com.example.casemgmt.repository;
 
+import com.example.casemgmt.dto.CaseSummary;
 import com.example.casemgmt.model.CaseEntity;
 import com.example.casemgmt.model.CaseStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface CaseRepository extends JpaRepository<CaseEntity, UUID> {
+public interface CaseRepository extends JpaRepository<CaseEntity, UUID>, JpaSpecificationExecutor<CaseEntity> {
+    
+    /**
+     * Loads every case with its attachments in one joined select instead of one select per case.
+     */
+    @Override
+    @EntityGraph(attributePaths = "attachments")
+    List<CaseEntity> findAll();
+    
+    /**
+     * Filtered listing; attachments are fetched in the same select as the cases.
+     */
+    @Override
+    @EntityGraph(attributePaths = "attachments")
+    List<CaseEntity> findAll(Specification<CaseEntity> spec);
     
     Optional<CaseEntity> findByCaseId(String caseId);
     
@@ -25,21 +49,49 @@ public interface CaseRepository extends JpaRepository<CaseEntity, UUID> {
     
     List<CaseEntity> findByBank(String bank);
     
-    @Query("SELECT c FROM CaseEntity c WHERE " +
-           "(:status IS NULL OR c.status = :status) AND " +
-           "(:type IS NULL OR c.type = :type) AND " +
-           "(:owner IS NULL OR c.owner = :owner) AND " +
-           "(:bank IS NULL OR c.bank = :bank) AND " +
-           "(:dateFrom IS NULL OR c.createdDate >= :dateFrom) AND " +
-           "(:dateTo IS NULL OR c.createdDate <= :dateTo)")
-    List<CaseEntity> findByFilters(@Param("status") CaseStatus status,
-                                  @Param("type") String type,
-                                  @Param("owner") String owner,
-                                  @Param("bank") String bank,
-                                  @Param("dateFrom") LocalDateTime dateFrom,
-                                  @Param("dateTo") LocalDateTime dateTo);
+    default List<CaseEntity> findByFilters(CaseStatus status, String type, String owner, String bank,
+                                           LocalDateTime dateFrom, LocalDateTime dateTo) {
+        return findAll(CaseSpecifications.withFilters(status, type, owner, bank, dateFrom, dateTo));
+    }
     
     boolean existsByCaseId(String caseId);
+    
+    @Query("SELECT c.caseId FROM CaseEntity c WHERE c.caseId IN :caseIds")
+    List<String> findExistingCaseIds(@Param("caseIds") Collection<String> caseIds);
+    
+    /**
+     * Loads a batch of cases by business ID, with attachments, in a single select.
+     */
+    @EntityGraph(attributePaths = "attachments")
+    List<CaseEntity> findByCaseIdIn(Collection<String> caseIds);
+    
+    /**
+     * Forward-only, read-only scan of every case for exports. Must be consumed inside a transaction
+     * and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT c FROM CaseEntity c")
+    Stream<CaseEntity> streamAll();
+    
+    String SUMMARY_SELECT = "SELECT c.id AS id, c.caseId AS caseId, c.type AS type, c.status AS status, " +
+                            "c.createdDate AS createdDate, c.owner AS owner, c.bank AS bank, " +
+                            "c.complainantType AS complainantType, c.acquirerPrimaryIca AS acquirerPrimaryIca, " +
+                            "c.acquirerCountry AS acquirerCountry, c.overallCaseLead AS overallCaseLead " +
+                            "FROM CaseEntity c ";
+    
+    @Query(SUMMARY_SELECT + "ORDER BY c.createdDate DESC, c.id DESC")
+    List<CaseSummary> findFirstSummaryPage(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT +
+           "WHERE c.createdDate < :createdDate OR (c.createdDate = :createdDate AND c.id < :id) " +
+           "ORDER BY c.createdDate DESC, c.id DESC")
+    List<CaseSummary> findSummaryPageAfter(@Param("createdDate") LocalDateTime createdDate,
+                                           @Param("id") UUID id,
+                                           Pageable pageable);
 }
 
 
@@ -0,0 +1,14 @@
+package com.example.casemgmt.repository;
+
+import com.example.casemgmt.model.EvidenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface EvidenceRepository extends JpaRepository<EvidenceEntity, UUID> {
+    
+    Optional<EvidenceEntity> findByCaseIdAndName(String caseId, String name);
+}
@@ -0,0 +1,285 @@
+package com.example.casemgmt.search;
+
+import com.example.casemgmt.dto.CaseSearchResultDto;
+import com.example.casemgmt.index.CaseIndex;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+
+/**
+ * In-memory inverted index over case description and notes. Each indexed case gets a document
+ * number and every analyzed term keeps a postings list of (document, term frequency) pairs;
+ * queries are ranked with BM25. Writes are applied as they commit, so a search sees a change as
+ * soon as the transaction that made it has finished.
+ * <p>
+ * An update appends a new document and tombstones the old one; once tombstones outnumber live
+ * documents the postings are rewritten without them.
+ */
+@Component
+public class CaseSearchIndex implements CaseIndex<CaseSearchIndex.Snapshot> {
+    
+    // BM25 term frequency saturation and length normalization
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private static final int MIN_COMPACT_DELETED = 1024;
+    private static final int SNIPPET_BEFORE = 60;
+    private static final int SNIPPET_LENGTH = 180;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // All guarded by lock
+    private final Map<UUID, Integer> docByCase = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private List<Document> documents = new ArrayList<>();
+    private long totalLength;
+    private int deleted;
+    
+    /**
+     * The searchable text of one case, plus what a hit shows besides the snippet.
+     */
+    public record Snapshot(UUID id, long version, String caseId, CaseStatus status, String description, String notes) {}
+    
+    private record Document(Snapshot snapshot, String[] terms, int length) {}
+    
+    private static final class Postings {
+        
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        // Postings whose document has not been tombstoned
+        private int live;
+        
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+    }
+    
+    @Override
+    public Snapshot snapshot(CaseEntity entity) {
+        long version = entity.getVersion() != null ? entity.getVersion() : 0L;
+        return new Snapshot(entity.getId(), version, entity.getCaseId(), entity.getStatus(),
+                entity.getDescription(), entity.getNotes());
+    }
+    
+    @Override
+    public void apply(Snapshot snapshot) {
+        // Analysis needs no lock, so it is done before taking it
+        Map<String, Integer> frequencies = termFrequencies(snapshot);
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByCase.get(snapshot.id());
+            if (previous != null && documents.get(previous).snapshot().version() >= snapshot.version()) {
+                return;
+            }
+            if (previous != null) {
+                tombstone(previous);
+            }
+            docByCase.put(snapshot.id(), add(snapshot, frequencies));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = docByCase.remove(id);
+            if (previous != null) {
+                tombstone(previous);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns one page of cases matching any word of {@code query}, highest BM25 score first.
+     */
+    public CaseSearchResultDto search(String query, int page, int size) {
+        CaseSearchResultDto result = new CaseSearchResultDto(query, page, size);
+        Set<String> terms = new LinkedHashSet<>(CaseTextAnalyzer.analyze(query));
+        if (terms.isEmpty()) {
+            return result;
+        }
+        
+        long offset = (long) page * size;
+        int wanted = (int) Math.min(offset + size, Integer.MAX_VALUE);
+        lock.readLock().lock();
+        try {
+            int liveDocs = docByCase.size();
+            if (liveDocs == 0) {
+                return result;
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / liveDocs);
+            Map<Integer, double[]> scores = new HashMap<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null || list.live == 0) {
+                    continue;
+                }
+                double idf = Math.log(1 + (liveDocs - list.live + 0.5) / (list.live + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    Document document = documents.get(list.docs[i]);
+                    if (document == null) {
+                        continue;
+                    }
+                    double tf = list.freqs[i];
+                    double norm = K1 * (1 - B + B * document.length() / averageLength);
+                    scores.computeIfAbsent(list.docs[i], doc -> new double[1])[0] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+            result.setTotal(scores.size());
+            if (offset >= scores.size()) {
+                return result;
+            }
+            
+            // Min-heap of the best hits up to the end of the requested page
+            PriorityQueue<Map.Entry<Integer, double[]>> best = new PriorityQueue<>(
+                    (a, b) -> Double.compare(a.getValue()[0], b.getValue()[0]) != 0
+                            ? Double.compare(a.getValue()[0], b.getValue()[0])
+                            : Integer.compare(b.getKey(), a.getKey()));
+            for (Map.Entry<Integer, double[]> entry : scores.entrySet()) {
+                best.offer(entry);
+                if (best.size() > wanted) {
+                    best.poll();
+                }
+            }
+            List<Map.Entry<Integer, double[]>> ranked = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                ranked.add(best.poll());
+            }
+            for (int i = ranked.size() - 1 - (int) offset; i >= 0 && result.getHits().size() < size; i--) {
+                Snapshot snapshot = documents.get(ranked.get(i).getKey()).snapshot();
+                result.getHits().add(new CaseSearchResultDto.Hit(snapshot.caseId(), snapshot.status(),
+                        ranked.get(i).getValue()[0], snippet(snapshot, terms)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByCase.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private static Map<String, Integer> termFrequencies(Snapshot snapshot) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String term : CaseTextAnalyzer.analyze(snapshot.description())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        for (String term : CaseTextAnalyzer.analyze(snapshot.notes())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+    
+    private int add(Snapshot snapshot, Map<String, Integer> frequencies) {
+        int doc = documents.size();
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.add(new Document(snapshot, frequencies.keySet().toArray(new String[0]), length));
+        totalLength += length;
+        return doc;
+    }
+    
+    private void tombstone(int doc) {
+        Document document = documents.set(doc, null);
+        for (String term : document.terms()) {
+            postings.get(term).live--;
+        }
+        totalLength -= document.length();
+        deleted++;
+    }
+    
+    /**
+     * Rewrites the postings from the live documents once tombstones dominate, which keeps both
+     * memory and query time proportional to the number of cases rather than the number of writes.
+     */
+    private void compactIfNeeded() {
+        if (deleted < MIN_COMPACT_DELETED || deleted <= docByCase.size()) {
+            return;
+        }
+        List<Document> live = new ArrayList<>(docByCase.size());
+        for (Document document : documents) {
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        documents = new ArrayList<>(live.size());
+        postings.clear();
+        docByCase.clear();
+        totalLength = 0;
+        deleted = 0;
+        for (Document document : live) {
+            Snapshot snapshot = document.snapshot();
+            docByCase.put(snapshot.id(), add(snapshot, termFrequencies(snapshot)));
+        }
+    }
+    
+    private static String snippet(Snapshot snapshot, Set<String> terms) {
+        String snippet = snippet(snapshot.description(), terms);
+        if (snippet == null) {
+            snippet = snippet(snapshot.notes(), terms);
+        }
+        if (snippet == null && snapshot.description() != null) {
+            snippet = excerpt(snapshot.description(), 0);
+        }
+        return snippet;
+    }
+    
+    private static String snippet(String text, Set<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        // Accent folding keeps character positions for the common precomposed accents, but not in general
+        String folded = CaseTextAnalyzer.fold(text);
+        Matcher matcher = CaseTextAnalyzer.WORD.matcher(folded);
+        while (matcher.find()) {
+            String term = CaseTextAnalyzer.term(matcher.group());
+            if (term != null && terms.contains(term)) {
+                int start = folded.length() == text.length() ? matcher.start() : 0;
+                return excerpt(text, start);
+            }
+        }
+        return null;
+    }
+    
+    private static String excerpt(String text, int matchStart) {
+        int from = Math.max(0, matchStart - SNIPPET_BEFORE);
+        int to = Math.min(text.length(), from + SNIPPET_LENGTH);
+        String excerpt = text.substring(from, to).strip();
+        return (from > 0 ? "…" : "") + excerpt + (to < text.length() ? "…" : "");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.casemgmt.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns description and notes text into index terms: accent-folded, lower-cased words with
+ * stop words removed and a light suffix stemmer, so "miscode", "miscodes", "miscoded" and
+ * "miscoding" all match each other. Queries go through the same analysis.
+ */
+final class CaseTextAnalyzer {
+    
+    static final Pattern WORD = Pattern.compile("[\\p{L}\\p{Nd}]+");
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is",
+        "it", "its", "of", "on", "or", "that", "the", "this", "to", "was", "were", "with"
+    );
+    
+    private CaseTextAnalyzer() {}
+    
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        Matcher matcher = WORD.matcher(fold(text));
+        while (matcher.find()) {
+            String term = term(matcher.group());
+            if (term != null) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+    
+    /**
+     * Analyzes a single word; {@code null} if it is not indexed.
+     */
+    static String term(String word) {
+        String token = word.toLowerCase(Locale.ROOT);
+        if (token.length() < 2 || STOP_WORDS.contains(token)) {
+            return null;
+        }
+        return stem(token);
+    }
+    
+    static String fold(String text) {
+        return DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    }
+    
+    private static String stem(String token) {
+        int length = token.length();
+        if (length > 5 && token.endsWith("ing")) {
+            return token.substring(0, length - 3);
+        }
+        if (length > 4 && token.endsWith("ied")) {
+            return token.substring(0, length - 3) + "y";
+        }
+        if (length > 4 && token.endsWith("ed")) {
+            return token.substring(0, length - 2);
+        }
+        String singular = token;
+        if (length > 4 && token.endsWith("ies")) {
+            singular = token.substring(0, length - 3) + "y";
+        } else if (length > 3 && token.endsWith("s") && !token.endsWith("ss")) {
+            singular = token.substring(0, length - 1);
+        }
+        // Drop a silent final e so "code"/"codes" meet "coded"/"coding" at "cod"
+        if (singular.length() > 3 && singular.endsWith("e")) {
+            singular = singular.substring(0, singular.length() - 1);
+        }
+        return singular;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.MetricsConfig;
+import com.example.casemgmt.dto.AlertImportJobDto;
+import com.example.casemgmt.dto.CaseChangeDto;
+import com.example.casemgmt.ingest.AlertFileIngester;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs alert file imports as background jobs on the bounded {@code alertImportExecutor}.
+ * Each chunk of cases commits in its own transaction through {@link CaseService#insertCases},
+ * so the upload request returns immediately and a late failure keeps the chunks already written.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class AlertImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AlertImportService.class);
+    
+    public static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of(
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+        "application/vnd.ms-excel",
+        "text/csv"
+    );
+    
+    @Autowired
+    private AlertFileIngester alertFileIngester;
+    
+    @Autowired
+    private CaseService caseService;
+    
+    @Autowired
+    @Qualifier("alertImportExecutor")
+    private TaskExecutor alertImportExecutor;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${casemgmt.import.retained-jobs:100}")
+    private int retainedJobs;
+    
+    private final Map<String, AlertImportJobDto> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> finishedJobIds = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Copies the upload to a local file and queues it for import.
+     *
+     * @throws org.springframework.core.task.TaskRejectedException if the import queue is full
+     */
+    public AlertImportJobDto submit(MultipartFile file) throws IOException {
+        // The multipart temp file is removed when the request ends, so the job needs its own copy
+        Path localCopy = Files.createTempFile("alert-", ".upload");
+        try {
+            file.transferTo(localCopy);
+            return submit(localCopy, file.getOriginalFilename());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(localCopy);
+            throw e;
+        }
+    }
+    
+    /**
+     * Queues an already local file for import. Once queued the job owns {@code file} and deletes
+     * it when done; if the queue is full the file is left where it is.
+     *
+     * @throws org.springframework.core.task.TaskRejectedException if the import queue is full
+     */
+    public AlertImportJobDto submit(Path file, String filename) {
+        AlertImportJobDto job = new AlertImportJobDto(UUID.randomUUID().toString(), filename);
+        jobs.put(job.getJobId(), job);
+        try {
+            alertImportExecutor.execute(() -> run(job, file));
+        } catch (RuntimeException e) {
+            jobs.remove(job.getJobId());
+            throw e;
+        }
+        logger.info("Queued alert import {} for file {}", job.getJobId(), job.getFilename());
+        return job;
+    }
+    
+    public Optional<AlertImportJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+    
+    public List<AlertImportJobDto> getJobs() {
+        List<AlertImportJobDto> all = new ArrayList<>(jobs.values());
+        all.sort(Comparator.comparing(AlertImportJobDto::getSubmittedAt).reversed());
+        return all;
+    }
+    
+    /**
+     * Imports {@code file} on the calling thread, committing chunk by chunk.
+     */
+    public void runImport(Path file, AlertImportJobDto job) throws IOException {
+        alertFileIngester.ingest(file, job, caseService::insertCases);
+    }
+    
+    private void run(AlertImportJobDto job, Path file) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus(AlertImportJobDto.Status.RUNNING);
+        try {
+            runImport(file, job);
+            job.setStatus(AlertImportJobDto.Status.COMPLETED);
+        } catch (Exception e) {
+            logger.error("Alert import {} failed after {} inserted rows", job.getJobId(), job.getRowsInserted(), e);
+            job.setFailureMessage(e.getMessage());
+            job.setStatus(AlertImportJobDto.Status.FAILED);
+        } finally {
+            job.setFinishedAt(LocalDateTime.now());
+            if (job.getElapsedMillis() == 0) {
+                job.setElapsedMillis(Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis());
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete alert import file {}", file, e);
+            }
+            // One change event per job, not per chunk: each one sends every open UI back for the full list
+            if (job.getRowsInserted() > 0) {
+                eventPublisher.publishEvent(CaseChangeDto.imported((int) Math.min(job.getRowsInserted(), Integer.MAX_VALUE)));
+            }
+            retire(job.getJobId());
+        }
+    }
+    
+    private void retire(String jobId) {
+        finishedJobIds.add(jobId);
+        while (finishedJobIds.size() > retainedJobs) {
+            String oldest = finishedJobIds.poll();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+}
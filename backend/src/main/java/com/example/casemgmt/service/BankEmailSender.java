@@ -0,0 +1,27 @@
+package com.example.casemgmt.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Sends the "please respond" email to a case's bank. Simulated with a fixed delay until a real
+ * mail gateway is wired in; only ever called from the email dispatcher threads.
+ */
+@Component
+public class BankEmailSender {
+    
+    private static final Logger logger = LoggerFactory.getLogger(BankEmailSender.class);
+    
+    @Value("${casemgmt.email.simulated-latency:2s}")
+    private Duration simulatedLatency;
+    
+    public String send(String caseId, String bank) throws InterruptedException {
+        logger.debug("Sending email to bank {} for case {}", bank, caseId);
+        Thread.sleep(simulatedLatency.toMillis());
+        return "Email sent successfully to bank for case " + caseId;
+    }
+}
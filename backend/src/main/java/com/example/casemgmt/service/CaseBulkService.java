@@ -0,0 +1,239 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.CacheConfig;
+import com.example.casemgmt.config.MetricsConfig;
+import com.example.casemgmt.dto.BulkCaseResultDto;
+import com.example.casemgmt.dto.BulkCaseResultDto.Outcome;
+import com.example.casemgmt.dto.CaseChangeDto;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.mapping.CaseMapper;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.repository.CaseRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates and updates many cases in one transaction. Existence is checked for the whole batch
+ * with a single {@code IN} query and the writes go out as JDBC batches on flush, so the cost of
+ * a sync grows with the number of batches rather than the number of cases.
+ */
+@Service
+@Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class CaseBulkService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CaseBulkService.class);
+    
+    @Autowired
+    private CaseRepository caseRepository;
+    
+    @Autowired
+    private CaseMapper caseMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private CaseChangeHistory changeHistory;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${casemgmt.bulk.max-items:5000}")
+    private int maxItems;
+    
+    /**
+     * Inserts every valid case whose ID is not already taken. Invalid items, IDs that already
+     * exist and repeats within the request are reported per item and skipped.
+     */
+    public BulkCaseResultDto createCases(List<CaseDto> cases) {
+        checkSize(cases);
+        Outcome[] outcomes = new Outcome[cases.size()];
+        String[] messages = new String[cases.size()];
+        
+        // Index -> caseId for items that passed validation, first occurrence only
+        Map<Integer, String> candidates = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < cases.size(); i++) {
+            CaseDto dto = cases.get(i);
+            String violations = dto == null ? "case: must not be null" : validate(dto);
+            if (violations != null) {
+                outcomes[i] = Outcome.INVALID;
+                messages[i] = violations;
+            } else if (!seen.add(dto.getCaseId())) {
+                outcomes[i] = Outcome.CONFLICT;
+                messages[i] = "Duplicate caseId in request";
+            } else {
+                candidates.put(i, dto.getCaseId());
+            }
+        }
+        
+        Set<String> existing = candidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(caseRepository.findExistingCaseIds(candidates.values()));
+        
+        List<CaseEntity> inserts = new ArrayList<>(candidates.size());
+        for (Map.Entry<Integer, String> candidate : candidates.entrySet()) {
+            int index = candidate.getKey();
+            if (existing.contains(candidate.getValue())) {
+                outcomes[index] = Outcome.CONFLICT;
+                messages[index] = "Case with ID " + candidate.getValue() + " already exists";
+            } else {
+                inserts.add(caseMapper.toEntity(cases.get(index)));
+                outcomes[index] = Outcome.CREATED;
+            }
+        }
+        
+        caseRepository.saveAll(inserts);
+        flushAndClear();
+        for (CaseEntity entity : inserts) {
+            eventPublisher.publishEvent(CaseChangeDto.created(entity.getCaseId(), entity.getVersion()));
+        }
+        evictAfterCommit(inserts.stream().map(CaseEntity::getCaseId).collect(Collectors.toList()));
+        
+        BulkCaseResultDto result = toResult(cases, outcomes, messages);
+        logger.info("Bulk create: {} created, {} rejected", inserts.size(), result.getFailed());
+        return result;
+    }
+    
+    /**
+     * Applies each element as a partial update (only the fields it carries) to the case with
+     * the same {@code caseId}. Later elements for the same case are applied on top of earlier ones.
+     */
+    public BulkCaseResultDto updateCases(List<CaseDto> patches) {
+        checkSize(patches);
+        Outcome[] outcomes = new Outcome[patches.size()];
+        String[] messages = new String[patches.size()];
+        
+        Set<String> caseIds = new HashSet<>();
+        for (int i = 0; i < patches.size(); i++) {
+            String caseId = patches.get(i) != null ? patches.get(i).getCaseId() : null;
+            if (caseId == null || caseId.isBlank()) {
+                outcomes[i] = Outcome.INVALID;
+                messages[i] = "caseId: must not be blank";
+            } else {
+                caseIds.add(caseId);
+            }
+        }
+        
+        Map<String, CaseEntity> entities = new HashMap<>();
+        if (!caseIds.isEmpty()) {
+            for (CaseEntity entity : caseRepository.findByCaseIdIn(caseIds)) {
+                entities.put(entity.getCaseId(), entity);
+            }
+        }
+        
+        int updated = 0;
+        Map<String, Long> changedByCase = new HashMap<>();
+        for (int i = 0; i < patches.size(); i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            CaseDto patch = patches.get(i);
+            CaseEntity entity = entities.get(patch.getCaseId());
+            if (entity == null) {
+                outcomes[i] = Outcome.NOT_FOUND;
+                messages[i] = "Case not found";
+                continue;
+            }
+            long changed = caseMapper.diff(entity, patch);
+            if (changed != 0) {
+                caseMapper.applyPatch(entity, patch, changed);
+                changedByCase.merge(entity.getCaseId(), changed, (a, b) -> a | b);
+            }
+            outcomes[i] = Outcome.UPDATED;
+            updated++;
+        }
+        
+        // Dirty entities are written here as batched UPDATE statements
+        entityManager.flush();
+        changedByCase.forEach((caseId, changed) -> {
+            Long version = entities.get(caseId).getVersion();
+            changeHistory.record(caseId, version, changed);
+            eventPublisher.publishEvent(CaseChangeDto.updated(caseId, version));
+        });
+        entityManager.clear();
+        evictAfterCommit(entities.keySet());
+        
+        BulkCaseResultDto result = toResult(patches, outcomes, messages);
+        logger.info("Bulk update: {} updated, {} rejected", updated, result.getFailed());
+        return result;
+    }
+    
+    private void checkSize(List<CaseDto> cases) {
+        if (cases == null || cases.isEmpty()) {
+            throw new IllegalArgumentException("Request must contain at least one case");
+        }
+        if (cases.size() > maxItems) {
+            throw new IllegalArgumentException("Request may contain at most " + maxItems + " cases");
+        }
+    }
+    
+    private String validate(CaseDto dto) {
+        Set<ConstraintViolation<CaseDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+    
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    private void evictAfterCommit(Iterable<String> caseIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.CASES_BY_ID);
+        if (cache == null) {
+            return;
+        }
+        // Evicting before commit would let a concurrent read re-cache the old row
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                caseIds.forEach(cache::evict);
+            }
+        });
+    }
+    
+    private BulkCaseResultDto toResult(List<CaseDto> cases, Outcome[] outcomes, String[] messages) {
+        BulkCaseResultDto result = new BulkCaseResultDto();
+        for (int i = 0; i < outcomes.length; i++) {
+            CaseDto dto = cases.get(i);
+            result.add(i, dto != null ? dto.getCaseId() : null, outcomes[i], messages[i]);
+        }
+        return result;
+    }
+}
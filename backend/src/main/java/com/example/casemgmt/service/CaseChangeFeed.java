@@ -0,0 +1,220 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.CaseChangeDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed case changes out to Server-Sent Events subscribers. Each change is serialized
+ * once and queued per subscriber in a small bounded buffer; a subscriber that cannot keep up loses
+ * its oldest pending changes and is told how many with an {@code overflow} event. The writer that
+ * produced the change never touches a socket, and each subscriber drains on its own thread from
+ * {@code caseStreamExecutor}, so a client that stops reading only blocks its own drain. Once one
+ * write has been blocked for {@code casemgmt.stream.send-timeout} the subscriber is dropped.
+ */
+@Component
+public class CaseChangeFeed {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CaseChangeFeed.class);
+    
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    public CaseChangeFeed(ObjectMapper objectMapper,
+                          @Qualifier("caseStreamExecutor") Executor executor,
+                          @Value("${casemgmt.stream.buffer-size:256}") int bufferSize,
+                          @Value("${casemgmt.stream.max-subscribers:500}") int maxSubscribers,
+                          @Value("${casemgmt.stream.timeout:30m}") Duration timeout,
+                          @Value("${casemgmt.stream.send-timeout:10s}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+    }
+    
+    /**
+     * Opens a new subscription. Throws {@link IllegalStateException} when the subscriber limit
+     * has been reached.
+     */
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+    
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many case stream subscribers");
+        }
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return emitter;
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+    
+    /**
+     * Receives changes published by the case services. Runs after the publishing transaction
+     * commits, so subscribers never see a change that was rolled back.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCaseChange(CaseChangeDto change) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Frame frame;
+        try {
+            frame = new Frame(sequence.incrementAndGet(), change.getType().name(), objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize case change for {}", change.getCaseId(), e);
+            return;
+        }
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.dropIfStalled(now)) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+    
+    private record Frame(long id, String name, String json) {
+        
+        SseEmitter.SseEventBuilder toEvent() {
+            return SseEmitter.event().id(Long.toString(id)).name(name).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+    
+    private final class Subscriber {
+        
+        private final SseEmitter emitter;
+        // Guarded by this
+        private final ArrayDeque<Frame> buffer = new ArrayDeque<>();
+        private int dropped;
+        private boolean draining;
+        private boolean stalled;
+        // Start of the write in progress, read by publishers to spot a client that stopped reading
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+        
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+        
+        /**
+         * Detaches this subscriber if its current write has been blocked past the send timeout.
+         * Leaves the emitter alone: its methods would wait for the blocked write.
+         */
+        boolean dropIfStalled(long now) {
+            if (!sending || now - sendStartedNanos < sendTimeoutNanos) {
+                return false;
+            }
+            subscribers.remove(this);
+            synchronized (this) {
+                stalled = true;
+                dropped += buffer.size();
+                buffer.clear();
+            }
+            logger.warn("Dropping case stream subscriber blocked on a write for over {} ms", sendTimeoutNanos / 1_000_000);
+            return true;
+        }
+        
+        void offer(Frame frame) {
+            synchronized (this) {
+                if (buffer.size() == bufferSize) {
+                    buffer.pollFirst();
+                    dropped++;
+                }
+                buffer.addLast(frame);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                // Leave the frames buffered; the next offer will try to schedule a drain again
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+        
+        private void drain() {
+            int lost;
+            while (true) {
+                Frame frame;
+                synchronized (this) {
+                    lost = dropped;
+                    frame = stalled ? null : buffer.pollFirst();
+                    if (frame == null) {
+                        draining = false;
+                        if (!stalled) {
+                            return;
+                        }
+                        break;
+                    }
+                    dropped = 0;
+                }
+                sendStartedNanos = System.nanoTime();
+                sending = true;
+                try {
+                    if (lost > 0) {
+                        emitter.send(SseEmitter.event().name("overflow").data(lost));
+                    }
+                    emitter.send(frame.toEvent());
+                } catch (IOException | IllegalStateException e) {
+                    close(e);
+                    return;
+                } finally {
+                    sending = false;
+                }
+            }
+            // The blocked write went through after all; tell the client what it missed and let it reconnect
+            try {
+                emitter.send(SseEmitter.event().name("overflow").data(lost));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                close(e);
+            }
+        }
+        
+        private void close(Exception e) {
+            // Client went away; the emitter callbacks may not fire for a broken connection
+            subscribers.remove(this);
+            emitter.completeWithError(e);
+            synchronized (this) {
+                buffer.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.casemgmt.service;
+
+/**
+ * Thrown when an update cannot be applied because another writer changed the same fields
+ * of the case since the version the update was based on.
+ */
+public class CaseConflictException extends RuntimeException {
+    
+    private final Long currentVersion;
+    
+    public CaseConflictException(String caseId, Long currentVersion) {
+        super("Case " + caseId + " was modified concurrently");
+        this.currentVersion = currentVersion;
+    }
+    
+    /**
+     * The version the case is at now, or {@code null} if the update gave up after repeated races.
+     */
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+}
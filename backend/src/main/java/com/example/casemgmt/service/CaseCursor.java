@@ -0,0 +1,50 @@
+package com.example.casemgmt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position {@code (createdDate, id)} encoded as an opaque URL-safe token.
+ */
+final class CaseCursor {
+    
+    private static final char SEPARATOR = '|';
+    
+    private final LocalDateTime createdDate;
+    private final UUID id;
+    
+    CaseCursor(LocalDateTime createdDate, UUID id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+    
+    LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+    
+    UUID getId() {
+        return id;
+    }
+    
+    String encode() {
+        String raw = createdDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    static CaseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new CaseCursor(LocalDateTime.parse(raw.substring(0, split)),
+                                  UUID.fromString(raw.substring(split + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
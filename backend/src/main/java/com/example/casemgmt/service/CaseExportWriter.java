@@ -0,0 +1,102 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.mapping.CaseJsonWriter;
+import com.example.casemgmt.model.CaseEntity;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes cases one row at a time so an export never holds more than the current entity.
+ * Attachments live in their own table and are not part of the export.
+ */
+class CaseExportWriter {
+    
+    private static final String[] COLUMNS = {
+        "id", "caseId", "type", "status", "createdDate", "lastUpdatedDate", "owner", "description",
+        "bank", "fineAmount", "notes", "complainantType", "complainantCompany", "complainantIca",
+        "complainantCountry", "complainantRegion", "acquirerPrimaryIca", "acquirerCountry",
+        "acquirerRegion", "subProgram", "overallCaseLead"
+    };
+    
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
+    private final CaseExportFormat format;
+    private final Writer writer;
+    private final JsonGenerator generator;
+    
+    CaseExportWriter(CaseExportFormat format, OutputStream out) throws IOException {
+        this.format = format;
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        if (format == CaseExportFormat.NDJSON) {
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are newline-delimited, so suppress the default space between root values
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator = null;
+        }
+    }
+    
+    void writeHeader() throws IOException {
+        if (format == CaseExportFormat.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+    }
+    
+    void writeRow(CaseEntity entity) throws IOException {
+        if (format == CaseExportFormat.NDJSON) {
+            CaseJsonWriter.write(generator, entity, false);
+            generator.writeRaw('\n');
+            return;
+        }
+        writeCsvRow(new Object[] {
+            entity.getId(), entity.getCaseId(), entity.getType(), entity.getStatus(),
+            entity.getCreatedDate(), entity.getLastUpdatedDate(), entity.getOwner(), entity.getDescription(),
+            entity.getBank(), entity.getFineAmount(), entity.getNotes(), entity.getComplainantType(),
+            entity.getComplainantCompany(), entity.getComplainantIca(), entity.getComplainantCountry(),
+            entity.getComplainantRegion(), entity.getAcquirerPrimaryIca(), entity.getAcquirerCountry(),
+            entity.getAcquirerRegion(), entity.getSubProgram(), entity.getOverallCaseLead()
+        });
+    }
+    
+    void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+    
+    private void writeCsvRow(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    private void writeCsvValue(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
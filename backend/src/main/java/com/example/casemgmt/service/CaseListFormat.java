@@ -0,0 +1,63 @@
+package com.example.casemgmt.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Wire formats for case lists ({@code GET /api/cases}), chosen by the Accept header. CBOR carries
+ * the same fields and values as JSON, but with string references (CBOR tags 256 and 25): each
+ * field name and repeated value such as a bank, region or status is written once per response
+ * and referred to by a small index after that. Decoders need stringref support, which Jackson's
+ * CBOR parser and Python's cbor2 have.
+ */
+public enum CaseListFormat {
+    JSON(MediaType.APPLICATION_JSON, new JsonFactory()),
+    CBOR(MediaType.APPLICATION_CBOR, CBORFactory.builder().enable(CBORGenerator.Feature.STRINGREF).build());
+    
+    private final MediaType mediaType;
+    private final JsonFactory factory;
+    
+    CaseListFormat(MediaType mediaType, JsonFactory factory) {
+        this.mediaType = mediaType;
+        this.factory = factory;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    public JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return factory.createGenerator(out);
+    }
+    
+    /**
+     * CBOR when the client asks for {@code application/cbor} at least as strongly as for JSON,
+     * otherwise JSON, which is also the answer for a missing or malformed header.
+     */
+    public static CaseListFormat fromAcceptHeader(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        double cborQuality = 0;
+        double jsonQuality = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                    cborQuality = Math.max(cborQuality, type.getQualityValue());
+                } else if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    jsonQuality = Math.max(jsonQuality, type.getQualityValue());
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        return cborQuality > 0 && cborQuality >= jsonQuality ? CBOR : JSON;
+    }
+}
@@ -1,275 +1,470 @@
 package com.example.casemgmt.service;
 
+import com.example.casemgmt.config.CacheConfig;
+import com.example.casemgmt.config.MetricsConfig;
+import com.example.casemgmt.dto.CaseChangeDto;
 import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.CaseField;
+import com.example.casemgmt.dto.CasePageDto;
+import com.example.casemgmt.dto.CaseSummary;
+import com.example.casemgmt.evidence.EvidenceFile;
+import com.example.casemgmt.evidence.EvidenceStore;
+import com.example.casemgmt.mapping.CaseJsonWriter;
+import com.example.casemgmt.mapping.CaseMapper;
 import com.example.casemgmt.model.CaseEntity;
 import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.model.EvidenceEntity;
 import com.example.casemgmt.repository.CaseRepository;
+import com.example.casemgmt.repository.EvidenceRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Iterator;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class CaseService {
     
     private static final Logger logger = LoggerFactory.getLogger(CaseService.class);
     
+    static final String ROWS_METRIC = "casemgmt.case.rows";
+    
     @Autowired
     private CaseRepository caseRepository;
     
+    @Autowired
+    private CaseMapper caseMapper;
+    
+    @Autowired
+    private CaseChangeHistory changeHistory;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private EvidenceRepository evidenceRepository;
+    
+    @Autowired
+    private EvidenceStore evidenceStore;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    
+    private Cache<Object, Object> casesById;
+    
+    // Rows returned per read operation, registered with the meter registry
+    private DistributionSummary allCasesRows;
+    private DistributionSummary filteredRows;
+    private DistributionSummary writtenRows;
+    private DistributionSummary pageRows;
+    private DistributionSummary exportedRows;
+    
+    @Value("${casemgmt.pagination.default-size:50}")
+    private int defaultPageSize;
+    
+    @Value("${casemgmt.pagination.max-size:500}")
+    private int maxPageSize;
+    
+    @Value("${casemgmt.export.flush-interval:500}")
+    private int exportFlushInterval;
+    
+    @Value("${casemgmt.update.max-attempts:5}")
+    private int maxUpdateAttempts;
+    
+    @Autowired
+    void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @Autowired
+    @SuppressWarnings("unchecked")
+    void setCacheManager(CacheManager cacheManager) {
+        this.casesById = (Cache<Object, Object>) cacheManager.getCache(CacheConfig.CASES_BY_ID).getNativeCache();
+    }
+    
+    @Autowired
+    void setMeterRegistry(MeterRegistry meterRegistry) {
+        // Registered once here so recording on the hot path is a plain field access
+        this.allCasesRows = rowsReturned(meterRegistry, "getAllCases");
+        this.filteredRows = rowsReturned(meterRegistry, "getCasesByFilters");
+        this.writtenRows = rowsReturned(meterRegistry, "writeCases");
+        this.pageRows = rowsReturned(meterRegistry, "getCasePage");
+        this.exportedRows = rowsReturned(meterRegistry, "exportCases");
+    }
+    
+    private static DistributionSummary rowsReturned(MeterRegistry meterRegistry, String operation) {
+        return DistributionSummary.builder(ROWS_METRIC)
+                .description("Cases returned per call")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+    
+    @Transactional(readOnly = true)
     public List<CaseDto> getAllCases() {
-        logger.info("Retrieving all cases");
-        return caseRepository.findAll().stream()
-                .map(this::convertToDto)
+        List<CaseDto> cases = caseRepository.findAll().stream()
+                .map(caseMapper::toDto)
                 .collect(Collectors.toList());
+        allCasesRows.record(cases.size());
+        return cases;
+    }
+    
+    /**
+     * Returns one page of case summaries ordered newest first, seeking past {@code cursor}
+     * on {@code (createdDate, id)} instead of using an offset so every page costs the same.
+     */
+    @Transactional(readOnly = true)
+    public CasePageDto getCasePage(String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+        
+        // Fetch one extra row to learn whether another page exists without a count query
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<CaseSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = caseRepository.findFirstSummaryPage(limit);
+        } else {
+            CaseCursor position = CaseCursor.decode(cursor);
+            rows = caseRepository.findSummaryPageAfter(position.getCreatedDate(), position.getId(), limit);
+        }
+        
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            CaseSummary last = rows.get(pageSize - 1);
+            nextCursor = new CaseCursor(last.getCreatedDate(), last.getId()).encode();
+        }
+        pageRows.record(rows.size());
+        return new CasePageDto(rows, pageSize, nextCursor);
+    }
+    
+    /**
+     * Streams every case to {@code out} in the given format. Rows are read through a forward-only
+     * cursor and detached as soon as they are written, so heap use does not grow with the table.
+     */
+    @Transactional(readOnly = true)
+    public long exportCases(CaseExportFormat format, OutputStream out) throws IOException {
+        CaseExportWriter writer = new CaseExportWriter(format, out);
+        writer.writeHeader();
+        writer.flush();
+        
+        long rows = 0;
+        try (Stream<CaseEntity> cases = caseRepository.streamAll()) {
+            Iterator<CaseEntity> iterator = cases.iterator();
+            while (iterator.hasNext()) {
+                CaseEntity entity = iterator.next();
+                writer.writeRow(entity);
+                entityManager.detach(entity);
+                if (++rows % exportFlushInterval == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        exportedRows.record(rows);
+        logger.info("Exported {} cases as {}", rows, format);
+        return rows;
+    }
+    
+    /**
+     * Writes the cases matching the filters (all cases when every filter is null) to {@code out}
+     * as a JSON array, serializing each entity directly instead of building a list of DTOs first.
+     */
+    @Transactional(readOnly = true)
+    public long writeCases(CaseStatus status, String type, String owner, String bank,
+                           LocalDateTime dateFrom, LocalDateTime dateTo, OutputStream out) throws IOException {
+        return writeCases(status, type, owner, bank, dateFrom, dateTo, CaseListFormat.JSON, out);
+    }
+    
+    /**
+     * Same as {@link #writeCases(CaseStatus, String, String, String, LocalDateTime, LocalDateTime, OutputStream)},
+     * as an array in the given wire format.
+     */
+    @Transactional(readOnly = true)
+    public long writeCases(CaseStatus status, String type, String owner, String bank,
+                           LocalDateTime dateFrom, LocalDateTime dateTo, CaseListFormat format,
+                           OutputStream out) throws IOException {
+        List<CaseEntity> cases = caseRepository.findByFilters(status, type, owner, bank, dateFrom, dateTo);
+        try (JsonGenerator generator = format.createGenerator(out)) {
+            generator.writeStartArray();
+            for (CaseEntity entity : cases) {
+                CaseJsonWriter.write(generator, entity, true);
+            }
+            generator.writeEndArray();
+        }
+        writtenRows.record(cases.size());
+        return cases.size();
     }
     
+    @Transactional(readOnly = true)
     public List<CaseDto> getCasesByFilters(CaseStatus status, String type, String owner, 
                                          String bank, LocalDateTime dateFrom, LocalDateTime dateTo) {
-        logger.info("Retrieving cases with filters: status={}, type={}, owner={}, bank={}, dateFrom={}, dateTo={}", 
-                   status, type, owner, bank, dateFrom, dateTo);
-        
-        return caseRepository.findByFilters(status, type, owner, bank, dateFrom, dateTo).stream()
-                .map(this::convertToDto)
+        List<CaseDto> cases = caseRepository.findByFilters(status, type, owner, bank, dateFrom, dateTo).stream()
+                .map(caseMapper::toDto)
                 .collect(Collectors.toList());
+        filteredRows.record(cases.size());
+        return cases;
     }
     
     public Optional<CaseDto> getCaseById(String caseId) {
-        logger.info("Retrieving case with ID: {}", caseId);
-        return caseRepository.findByCaseId(caseId)
-                .map(this::convertToDto);
+        CaseDto cached = (CaseDto) casesById.getIfPresent(caseId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Only a miss opens a transaction, as a cache hit needs no connection
+        Optional<CaseDto> found = readOnlyTransaction.execute(status -> caseRepository.findByCaseId(caseId)
+                .map(caseMapper::toDto));
+        found.ifPresent(this::cache);
+        return found;
+    }
+    
+    /**
+     * Caches {@code dto} unless a newer version of the case is already cached. A read that
+     * loaded the case just before a write committed may otherwise finish last and leave the
+     * old version cached until it expires.
+     */
+    private void cache(CaseDto dto) {
+        casesById.asMap().merge(dto.getCaseId(), dto,
+                (cached, loaded) -> versionOf((CaseDto) loaded) >= versionOf((CaseDto) cached) ? loaded : cached);
+    }
+    
+    private static long versionOf(CaseDto dto) {
+        return dto.getVersion() != null ? dto.getVersion() : -1L;
     }
     
+    @CacheEvict(cacheNames = CacheConfig.CASES_BY_ID, key = "#caseDto.caseId")
     public CaseDto createCase(CaseDto caseDto) {
-        logger.info("Creating new case with ID: {}", caseDto.getCaseId());
-        
         if (caseRepository.existsByCaseId(caseDto.getCaseId())) {
             throw new IllegalArgumentException("Case with ID " + caseDto.getCaseId() + " already exists");
         }
         
-        CaseEntity entity = convertToEntity(caseDto);
+        CaseEntity entity = caseMapper.toEntity(caseDto);
         entity.setCreatedDate(LocalDateTime.now());
         entity.setLastUpdatedDate(LocalDateTime.now());
         
         CaseEntity savedEntity = caseRepository.save(entity);
-        logger.info("Successfully created case with ID: {}", savedEntity.getCaseId());
+        logger.debug("Created case {}", savedEntity.getCaseId());
         
-        return convertToDto(savedEntity);
+        CaseDto created = caseMapper.toDto(savedEntity);
+        eventPublisher.publishEvent(CaseChangeDto.created(created));
+        return created;
     }
     
-    public Optional<CaseDto> updateCase(String caseId, CaseDto caseDto) {
-        logger.info("Updating case with ID: {}", caseId);
-        
-        return caseRepository.findByCaseId(caseId)
-                .map(existingEntity -> {
-                    updateEntityFromDto(existingEntity, caseDto);
-                    existingEntity.setLastUpdatedDate(LocalDateTime.now());
-                    
-                    CaseEntity savedEntity = caseRepository.save(existingEntity);
-                    logger.info("Successfully updated case with ID: {}", caseId);
-                    
-                    return convertToDto(savedEntity);
-                });
+    /**
+     * Applies the fields set on {@code caseDto} to the case. When {@code expectedVersion} is given
+     * the update is based on that version, otherwise on the version read by the first attempt.
+     * If other writers have moved the case on since then, the update still succeeds as long as
+     * none of them changed a field this update changes; otherwise {@link CaseConflictException}
+     * is thrown. Races on the final write are retried, each attempt in its own transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<CaseDto> updateCase(String caseId, CaseDto caseDto, Long expectedVersion) {
+        AtomicReference<Long> baseVersion = new AtomicReference<>(expectedVersion);
+        Optional<CaseDto> updated = retryOnConflict(caseId, () -> attemptUpdate(caseId, caseDto, baseVersion));
+        // Committed by now, so the cache never holds a version a rollback took back
+        updated.ifPresent(this::cache);
+        return updated;
     }
     
-    public String emailBank(String caseId) {
-        logger.info("Sending email to bank for case: {}", caseId);
+    /**
+     * Runs {@code write} in a new transaction, running it again in a fresh one when it loses a
+     * race with another writer of the case, up to {@code casemgmt.update.max-attempts} times.
+     */
+    private <T> T retryOnConflict(String caseId, Supplier<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxUpdateAttempts) {
+                    throw new CaseConflictException(caseId, null);
+                }
+                logger.debug("Concurrent update of case {}, retrying (attempt {})", caseId, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+    
+    private Optional<CaseDto> attemptUpdate(String caseId, CaseDto caseDto, AtomicReference<Long> baseVersion) {
+        Optional<CaseEntity> existing = caseRepository.findByCaseId(caseId);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        CaseEntity entity = existing.get();
+        long currentVersion = versionOf(entity);
+        baseVersion.compareAndSet(null, currentVersion);
         
-        // Simulate email sending with delay
+        long changed = caseMapper.diff(entity, caseDto);
+        long intervening = changeHistory.changedSince(caseId, baseVersion.get(), currentVersion);
+        if ((intervening & changed) != 0) {
+            throw new CaseConflictException(caseId, currentVersion);
+        }
+        if (changed == 0) {
+            return Optional.of(caseMapper.toDto(entity));
+        }
+        
+        caseMapper.applyPatch(entity, caseDto, changed);
+        entity.setLastUpdatedDate(LocalDateTime.now());
+        // Flush here so a lost race surfaces inside the retry loop rather than at commit
+        CaseEntity savedEntity = caseRepository.saveAndFlush(entity);
+        changeHistory.record(caseId, versionOf(savedEntity), changed);
+        logger.debug("Updated case {} to version {}", caseId, savedEntity.getVersion());
+        
+        CaseDto updated = caseMapper.toDto(savedEntity);
+        eventPublisher.publishEvent(CaseChangeDto.updated(updated));
+        return Optional.of(updated);
+    }
+    
+    private static void backOff(int attempt) {
+        // Jitter so writers that collided do not collide again on the retry
         try {
-            Thread.sleep(2000); // 2 second delay
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 2));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            logger.warn("Email simulation interrupted");
+            throw new IllegalStateException("Interrupted while retrying case update", e);
         }
-        
-        logger.info("Email sent successfully to bank for case: {}", caseId);
-        return "Email sent successfully to bank for case " + caseId;
     }
     
-    public String uploadEvidence(String caseId, MultipartFile file) {
-        logger.info("Uploading evidence for case: {}, file: {}", caseId, file.getOriginalFilename());
-        
-        // Simulate file upload
-        String filename = "evidence_" + System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        
-        // Update case with new attachment
-        caseRepository.findByCaseId(caseId).ifPresent(entity -> {
-            entity.getAttachments().add(filename);
-            entity.setLastUpdatedDate(LocalDateTime.now());
-            caseRepository.save(entity);
-        });
-        
-        logger.info("Evidence uploaded successfully for case: {}, filename: {}", caseId, filename);
-        return filename;
+    private static long versionOf(CaseEntity entity) {
+        return entity.getVersion() != null ? entity.getVersion() : 0L;
     }
     
-    public List<CaseDto> processAlertFile(MultipartFile file) {
-        logger.info("Processing alert file: {}", file.getOriginalFilename());
+    /**
+     * Stores the uploaded file in the evidence store and attaches it to the case. The file is
+     * streamed to disk before any transaction starts, so a slow upload holds no connection.
+     * Returns the attachment name, or empty if the case does not exist.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> uploadEvidence(String caseId, MultipartFile file) {
+        logger.debug("Uploading evidence for case: {}, file: {}", caseId, file.getOriginalFilename());
         
-        List<CaseDto> createdCases = new ArrayList<>();
+        String filename = "evidence_" + System.currentTimeMillis() + "_" + safeFilename(file.getOriginalFilename());
+        EvidenceStore.StoredBlob blob;
+        try (InputStream content = file.getInputStream()) {
+            blob = evidenceStore.store(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store evidence for case " + caseId, e);
+        }
         
+        return attach(caseId, filename, file.getContentType(), blob);
+    }
+    
+    /**
+     * Attaches a fully received upload to the case. The file is linked or copied into the evidence
+     * store and deleted only once the attachment has committed, so a failed attempt can be retried
+     * with the same file. Returns the attachment name, or empty if the case does not exist.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> attachEvidence(String caseId, String originalFilename, String contentType, Path file) {
+        String filename = "evidence_" + System.currentTimeMillis() + "_" + safeFilename(originalFilename);
+        EvidenceStore.StoredBlob blob;
         try {
-            // For demo purposes, we'll create mock cases based on the file
-            // In a real application, you would parse the Excel/CSV file here
-            createdCases = generateMockCasesFromFile(file);
-            
-            // Save all cases to database
-            for (CaseDto caseDto : createdCases) {
-                CaseEntity entity = convertToEntity(caseDto);
-                entity.setCreatedDate(LocalDateTime.now());
-                entity.setLastUpdatedDate(LocalDateTime.now());
-                
-                CaseEntity savedEntity = caseRepository.save(entity);
-                logger.info("Created case from file: {}", savedEntity.getCaseId());
-            }
-            
-            logger.info("Successfully processed alert file and created {} cases", createdCases.size());
-            
-        } catch (Exception e) {
-            logger.error("Error processing alert file: {}", file.getOriginalFilename(), e);
-            throw new RuntimeException("Failed to process alert file: " + e.getMessage(), e);
+            blob = evidenceStore.store(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store evidence for case " + caseId, e);
         }
         
-        return createdCases;
+        Optional<String> attached = attach(caseId, filename, contentType, blob);
+        if (attached.isPresent()) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete attached upload {}", file, e);
+            }
+        }
+        return attached;
     }
     
-    private List<CaseDto> generateMockCasesFromFile(MultipartFile file) {
-        List<CaseDto> mockCases = new ArrayList<>();
-        
-        // Generate mock cases based on file name and size
-        String fileName = file.getOriginalFilename();
-        int caseCount = Math.min(5, Math.max(1, (int) (file.getSize() / 10000))); // 1-5 cases based on file size
+    private Optional<String> attach(String caseId, String filename, String contentType, EvidenceStore.StoredBlob blob) {
+        // Update case with new attachment
+        Optional<CaseDto> updated = retryOnConflict(caseId, () -> caseRepository.findByCaseId(caseId).map(entity -> {
+            entity.getAttachments().add(filename);
+            entity.setLastUpdatedDate(LocalDateTime.now());
+            // Flush so the version bump is known and stale updates can still merge around it
+            CaseEntity savedEntity = caseRepository.saveAndFlush(entity);
+            evidenceRepository.save(new EvidenceEntity(caseId, filename, blob.sha256(), blob.size(), contentType));
+            changeHistory.record(caseId, versionOf(savedEntity), CaseField.ATTACHMENTS.mask());
+            eventPublisher.publishEvent(CaseChangeDto.attachmentAdded(caseId, filename));
+            return caseMapper.toDto(savedEntity);
+        }));
         
-        for (int i = 1; i <= caseCount; i++) {
-            CaseDto caseDto = new CaseDto();
-            
-            // Generate unique case ID
-            String timestamp = String.valueOf(System.currentTimeMillis()).substring(8);
-            String caseId = String.format("MCC-CS-UPL-%s-%d", timestamp, i);
-            
-            caseDto.setCaseId(caseId);
-            caseDto.setType("MCC");
-            caseDto.setStatus(CaseStatus.NEW);
-            caseDto.setOwner("MCCANALYST MCCANALYST");
-            caseDto.setDescription("Case created from uploaded alert file: " + fileName);
-            caseDto.setNotes("Automatically generated from file upload");
-            caseDto.setBank("Uploaded Bank " + i);
-            caseDto.setFineAmount(new java.math.BigDecimal(10000 + (i * 2000)));
-            
-            // Set complainant information
-            caseDto.setComplainantType("Acquirer");
-            caseDto.setComplainantCompany("Uploaded Bank " + i + " (" + (100000 + i) + ")");
-            caseDto.setComplainantIca(String.valueOf(1000 + i));
-            caseDto.setComplainantCountry("BRAZIL");
-            caseDto.setComplainantRegion("Latin America and the Caribbean");
-            
-            // Set acquirer information
-            caseDto.setAcquirerPrimaryIca(String.valueOf(1000 + i));
-            caseDto.setAcquirerCountry("BRAZIL");
-            caseDto.setAcquirerRegion("Latin America and the Caribbean");
-            
-            // Set program information
-            String[] subPrograms = {"RECOVERY", "PROACTIVE", "REACTIVE"};
-            caseDto.setSubProgram(subPrograms[i % subPrograms.length]);
-            caseDto.setOverallCaseLead("MCCANALYST MCCANALYST");
-            
-            // Add file as attachment
-            List<String> attachments = new ArrayList<>();
-            attachments.add(fileName);
-            caseDto.setAttachments(attachments);
-            
-            mockCases.add(caseDto);
+        if (updated.isEmpty()) {
+            return Optional.empty();
         }
-        
-        return mockCases;
+        cache(updated.get());
+        logger.info("Evidence uploaded successfully for case: {}, filename: {}, sha256: {}", caseId, filename, blob.sha256());
+        return Optional.of(filename);
     }
     
-    private CaseDto convertToDto(CaseEntity entity) {
-        CaseDto dto = new CaseDto();
-        dto.setId(entity.getId());
-        dto.setCaseId(entity.getCaseId());
-        dto.setType(entity.getType());
-        dto.setStatus(entity.getStatus());
-        dto.setCreatedDate(entity.getCreatedDate());
-        dto.setLastUpdatedDate(entity.getLastUpdatedDate());
-        dto.setOwner(entity.getOwner());
-        dto.setDescription(entity.getDescription());
-        dto.setAttachments(entity.getAttachments());
-        dto.setBank(entity.getBank());
-        dto.setFineAmount(entity.getFineAmount());
-        dto.setNotes(entity.getNotes());
-        dto.setComplainantType(entity.getComplainantType());
-        dto.setComplainantCompany(entity.getComplainantCompany());
-        dto.setComplainantIca(entity.getComplainantIca());
-        dto.setComplainantCountry(entity.getComplainantCountry());
-        dto.setComplainantRegion(entity.getComplainantRegion());
-        dto.setAcquirerPrimaryIca(entity.getAcquirerPrimaryIca());
-        dto.setAcquirerCountry(entity.getAcquirerCountry());
-        dto.setAcquirerRegion(entity.getAcquirerRegion());
-        dto.setSubProgram(entity.getSubProgram());
-        dto.setOverallCaseLead(entity.getOverallCaseLead());
-        return dto;
+    /**
+     * Resolves an attachment name of a case to its stored file. Attachments recorded before
+     * evidence was stored, or whose file is missing, are not found.
+     */
+    @Transactional(readOnly = true)
+    public Optional<EvidenceFile> findEvidence(String caseId, String name) {
+        return evidenceRepository.findByCaseIdAndName(caseId, name)
+                .flatMap(evidence -> evidenceStore.find(evidence.getSha256())
+                        .map(path -> new EvidenceFile(evidence.getName(), path, evidence.getSize(),
+                                evidence.getContentType(), evidence.getSha256())));
     }
     
-    private CaseEntity convertToEntity(CaseDto dto) {
-        CaseEntity entity = new CaseEntity();
-        entity.setCaseId(dto.getCaseId());
-        entity.setType(dto.getType());
-        entity.setStatus(dto.getStatus());
-        entity.setOwner(dto.getOwner());
-        entity.setDescription(dto.getDescription());
-        entity.setAttachments(dto.getAttachments() != null ? dto.getAttachments() : List.of());
-        entity.setBank(dto.getBank());
-        entity.setFineAmount(dto.getFineAmount());
-        entity.setNotes(dto.getNotes());
-        entity.setComplainantType(dto.getComplainantType());
-        entity.setComplainantCompany(dto.getComplainantCompany());
-        entity.setComplainantIca(dto.getComplainantIca());
-        entity.setComplainantCountry(dto.getComplainantCountry());
-        entity.setComplainantRegion(dto.getComplainantRegion());
-        entity.setAcquirerPrimaryIca(dto.getAcquirerPrimaryIca());
-        entity.setAcquirerCountry(dto.getAcquirerCountry());
-        entity.setAcquirerRegion(dto.getAcquirerRegion());
-        entity.setSubProgram(dto.getSubProgram());
-        entity.setOverallCaseLead(dto.getOverallCaseLead());
-        return entity;
+    private static String safeFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "upload";
+        }
+        // Browsers may send a full client path; keep the last segment and URL-safe characters only
+        String name = originalFilename.substring(Math.max(originalFilename.lastIndexOf('/'), originalFilename.lastIndexOf('\\')) + 1);
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
     }
     
-    private void updateEntityFromDto(CaseEntity entity, CaseDto dto) {
-        if (dto.getType() != null) entity.setType(dto.getType());
-        if (dto.getStatus() != null) entity.setStatus(dto.getStatus());
-        if (dto.getOwner() != null) entity.setOwner(dto.getOwner());
-        if (dto.getDescription() != null) entity.setDescription(dto.getDescription());
-        if (dto.getAttachments() != null) entity.setAttachments(dto.getAttachments());
-        if (dto.getBank() != null) entity.setBank(dto.getBank());
-        if (dto.getFineAmount() != null) entity.setFineAmount(dto.getFineAmount());
-        if (dto.getNotes() != null) entity.setNotes(dto.getNotes());
-        if (dto.getComplainantType() != null) entity.setComplainantType(dto.getComplainantType());
-        if (dto.getComplainantCompany() != null) entity.setComplainantCompany(dto.getComplainantCompany());
-        if (dto.getComplainantIca() != null) entity.setComplainantIca(dto.getComplainantIca());
-        if (dto.getComplainantCountry() != null) entity.setComplainantCountry(dto.getComplainantCountry());
-        if (dto.getComplainantRegion() != null) entity.setComplainantRegion(dto.getComplainantRegion());
-        if (dto.getAcquirerPrimaryIca() != null) entity.setAcquirerPrimaryIca(dto.getAcquirerPrimaryIca());
-        if (dto.getAcquirerCountry() != null) entity.setAcquirerCountry(dto.getAcquirerCountry());
-        if (dto.getAcquirerRegion() != null) entity.setAcquirerRegion(dto.getAcquirerRegion());
-        if (dto.getSubProgram() != null) entity.setSubProgram(dto.getSubProgram());
-        if (dto.getOverallCaseLead() != null) entity.setOverallCaseLead(dto.getOverallCaseLead());
+    /**
+     * Inserts one batch of new cases in its own transaction. Called once per chunk by alert
+     * imports, so a failure part-way through only rolls back the current chunk.
+     */
+    public void insertCases(List<CaseEntity> batch) {
+        caseRepository.saveAll(batch);
+        // Push the JDBC batch out and drop the managed entities so the persistence context stays small
+        entityManager.flush();
+        entityManager.clear();
     }
 }
-
-
-
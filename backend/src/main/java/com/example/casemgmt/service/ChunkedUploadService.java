@@ -0,0 +1,387 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.MetricsConfig;
+import com.example.casemgmt.dto.UploadSessionDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resumable uploads of large evidence and alert files. A session pre-allocates the whole file;
+ * chunks are then written at their offset with positional writes, so a client can send several
+ * at once, in any order, and after a dropped connection resend only the offsets still missing.
+ * Each chunk carries a SHA-256 that is checked before the chunk counts as received; a chunk being
+ * written, including a resend of one already received, counts as missing until its checksum
+ * matches, and only one request at a time may write a given chunk. Completing the session hands
+ * the file to the evidence store or the alert import queue without copying it.
+ * <p>
+ * Sessions live in memory: they survive interrupted connections but not a restart, and expire
+ * after {@code casemgmt.upload.session-ttl} without activity.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ChunkedUploadService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+    
+    private static final int MAX_CHUNKS = 10_000;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String PART_SUFFIX = ".part";
+    
+    @Autowired
+    private CaseService caseService;
+    
+    @Autowired
+    private AlertImportService alertImportService;
+    
+    @Value("${casemgmt.upload.dir:data/uploads}")
+    private Path uploadDir;
+    
+    @Value("${casemgmt.upload.default-chunk-size:8MB}")
+    private DataSize defaultChunkSize;
+    
+    @Value("${casemgmt.upload.max-chunk-size:64MB}")
+    private DataSize maxChunkSize;
+    
+    @Value("${casemgmt.upload.max-size:10GB}")
+    private DataSize maxSize;
+    
+    @Value("${casemgmt.upload.max-sessions:100}")
+    private int maxSessions;
+    
+    @Value("${casemgmt.upload.session-ttl:24h}")
+    private Duration sessionTtl;
+    
+    private Cache<String, Session> sessions;
+    // Outcome of recently completed sessions, so a client whose complete call was cut off can ask again
+    private Cache<String, UploadSessionDto> completed;
+    
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(uploadDir);
+        // Partial files of a previous run have no session any more and can never be completed
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(uploadDir, "*" + PART_SUFFIX)) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+        sessions = Caffeine.newBuilder()
+                .expireAfterAccess(sessionTtl)
+                .scheduler(Scheduler.systemScheduler())
+                .<String, Session>removalListener((id, session, cause) -> discard(session))
+                .build();
+        completed = Caffeine.newBuilder()
+                .expireAfterWrite(sessionTtl)
+                .maximumSize(1000)
+                .build();
+    }
+    
+    /**
+     * Starts an upload and pre-allocates its file.
+     *
+     * @throws IllegalArgumentException if the request is invalid
+     * @throws IllegalStateException if too many uploads are in progress
+     */
+    public UploadSessionDto start(UploadSessionDto request) throws IOException {
+        if (request.getPurpose() == null) {
+            throw new IllegalArgumentException("Upload purpose is required");
+        }
+        if (request.getFilename() == null || request.getFilename().isBlank()) {
+            throw new IllegalArgumentException("Filename is required");
+        }
+        long size = request.getSize() != null ? request.getSize() : 0;
+        if (size < 1 || size > maxSize.toBytes()) {
+            throw new IllegalArgumentException("Upload size must be between 1 and " + maxSize.toBytes() + " bytes");
+        }
+        long chunkSize = request.getChunkSize() != null ? request.getChunkSize() : Math.min(defaultChunkSize.toBytes(), size);
+        if (chunkSize < 1 || chunkSize > maxChunkSize.toBytes()) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + maxChunkSize.toBytes() + " bytes");
+        }
+        long chunkCount = (size + chunkSize - 1) / chunkSize;
+        if (chunkCount > MAX_CHUNKS) {
+            throw new IllegalArgumentException("Upload would have more than " + MAX_CHUNKS + " chunks; use a larger chunk size");
+        }
+        switch (request.getPurpose()) {
+            case EVIDENCE -> {
+                if (request.getCaseId() == null || caseService.getCaseById(request.getCaseId()).isEmpty()) {
+                    throw new IllegalArgumentException("Unknown case: " + request.getCaseId());
+                }
+            }
+            case ALERT -> {
+                if (!AlertImportService.SUPPORTED_CONTENT_TYPES.contains(request.getContentType())) {
+                    throw new IllegalArgumentException("Invalid file type. Please upload Excel (.xlsx, .xls) or CSV files only.");
+                }
+            }
+        }
+        if (sessions.estimatedSize() >= maxSessions) {
+            throw new IllegalStateException("Too many uploads in progress");
+        }
+        
+        String uploadId = UUID.randomUUID().toString();
+        Path file = uploadDir.resolve(uploadId + PART_SUFFIX);
+        try (RandomAccessFile allocation = new RandomAccessFile(file.toFile(), "rw")) {
+            allocation.setLength(size);
+        }
+        Session session = new Session(uploadId, request, size, chunkSize, (int) chunkCount, file);
+        sessions.put(uploadId, session);
+        logger.debug("Started upload {} of {} ({} bytes in {} chunks)", uploadId, request.getFilename(), size, chunkCount);
+        return session.toDto();
+    }
+    
+    public Optional<UploadSessionDto> getUpload(String uploadId) {
+        Session session = sessions.getIfPresent(uploadId);
+        return session != null ? Optional.of(session.toDto()) : Optional.ofNullable(completed.getIfPresent(uploadId));
+    }
+    
+    /**
+     * Writes the chunk starting at {@code offset}, reading exactly its length from {@code body}.
+     * Returns the updated session, or empty if there is no such upload.
+     *
+     * @throws UploadChecksumException if the chunk does not match {@code sha256}
+     * @throws IllegalStateException if the chunk is already being written or the upload is being completed
+     */
+    public Optional<UploadSessionDto> writeChunk(String uploadId, long offset, InputStream body, String sha256) throws IOException {
+        Session session = sessions.getIfPresent(uploadId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (offset < 0 || offset >= session.size || offset % session.chunkSize != 0) {
+            throw new IllegalArgumentException("Offset " + offset + " is not the start of a chunk");
+        }
+        if (sha256 == null || sha256.isBlank()) {
+            throw new IllegalArgumentException("Chunk checksum is required");
+        }
+        int index = (int) (offset / session.chunkSize);
+        long length = session.chunkLength(index);
+        
+        session.beginWrite(index);
+        try {
+            MessageDigest digest = newDigest();
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+                while (written < length) {
+                    int read = body.read(buffer, 0, (int) Math.min(buffer.length, length - written));
+                    if (read < 0) {
+                        throw new IllegalArgumentException("Chunk at offset " + offset + " ended after " + written + " of " + length + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+                    while (bytes.hasRemaining()) {
+                        written += channel.write(bytes, offset + written);
+                    }
+                }
+            }
+            if (body.read() >= 0) {
+                throw new IllegalArgumentException("Chunk at offset " + offset + " is longer than " + length + " bytes");
+            }
+            if (!HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(sha256.strip())) {
+                throw new UploadChecksumException(uploadId, offset);
+            }
+            session.markReceived(index);
+        } finally {
+            session.endWrite(index);
+        }
+        return Optional.of(session.toDto());
+    }
+    
+    /**
+     * Hands a fully received upload to evidence storage or the alert import queue. Returns the
+     * completed session, or empty if there is no such upload.
+     *
+     * @throws IllegalStateException if chunks are missing or still being written
+     * @throws org.springframework.core.task.TaskRejectedException if the alert import queue is
+     *         full; the upload stays open and completing can be retried
+     */
+    public Optional<UploadSessionDto> complete(String uploadId) {
+        Session session = sessions.getIfPresent(uploadId);
+        if (session == null) {
+            return Optional.ofNullable(completed.getIfPresent(uploadId));
+        }
+        session.beginComplete();
+        UploadSessionDto result;
+        try {
+            if (session.purpose == UploadSessionDto.Purpose.EVIDENCE) {
+                String attachmentName = caseService.attachEvidence(session.caseId, session.filename, session.contentType, session.file)
+                        .orElseThrow(() -> new IllegalStateException("Case " + session.caseId + " no longer exists"));
+                result = session.finish(attachmentName, null);
+            } else {
+                // The import job deletes the file itself once it has run
+                session.handedOff = true;
+                String jobId = alertImportService.submit(session.file, session.filename).getJobId();
+                result = session.finish(null, jobId);
+            }
+        } catch (RuntimeException e) {
+            session.abortComplete();
+            throw e;
+        }
+        completed.put(uploadId, result);
+        sessions.invalidate(uploadId);
+        logger.info("Completed upload {} of {} ({} bytes)", uploadId, session.filename, session.size);
+        return Optional.of(result);
+    }
+    
+    /**
+     * Abandons an upload and deletes what was received. Returns false if there is no such upload.
+     */
+    public boolean abort(String uploadId) {
+        Session session = sessions.getIfPresent(uploadId);
+        if (session == null) {
+            return false;
+        }
+        session.checkNotCompleting();
+        sessions.invalidate(uploadId);
+        return true;
+    }
+    
+    private void discard(Session session) {
+        if (session == null || session.handedOff) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(session.file);
+        } catch (IOException e) {
+            logger.warn("Could not delete upload file {}", session.file, e);
+        }
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static final class Session {
+        
+        private final String uploadId;
+        private final UploadSessionDto.Purpose purpose;
+        private final String caseId;
+        private final String filename;
+        private final String contentType;
+        private final long size;
+        private final long chunkSize;
+        private final int chunkCount;
+        private final Path file;
+        // All guarded by this
+        private final BitSet received = new BitSet();
+        private final BitSet writing = new BitSet();
+        private boolean completing;
+        private volatile boolean handedOff;
+        
+        Session(String uploadId, UploadSessionDto request, long size, long chunkSize, int chunkCount, Path file) {
+            this.uploadId = uploadId;
+            this.purpose = request.getPurpose();
+            this.caseId = request.getCaseId();
+            this.filename = request.getFilename();
+            this.contentType = request.getContentType();
+            this.size = size;
+            this.chunkSize = chunkSize;
+            this.chunkCount = chunkCount;
+            this.file = file;
+        }
+        
+        long chunkLength(int index) {
+            return Math.min(chunkSize, size - index * chunkSize);
+        }
+        
+        synchronized void beginWrite(int index) {
+            checkNotCompleting();
+            if (writing.get(index)) {
+                throw new IllegalStateException("Chunk " + index + " of upload " + uploadId + " is already being written");
+            }
+            writing.set(index);
+            // The write overwrites what was there, so the chunk only counts again once this write checks out
+            received.clear(index);
+        }
+        
+        synchronized void endWrite(int index) {
+            writing.clear(index);
+        }
+        
+        synchronized void markReceived(int index) {
+            received.set(index);
+        }
+        
+        synchronized void checkNotCompleting() {
+            if (completing) {
+                throw new IllegalStateException("Upload " + uploadId + " is being completed");
+            }
+        }
+        
+        synchronized void beginComplete() {
+            checkNotCompleting();
+            if (!writing.isEmpty()) {
+                throw new IllegalStateException("Chunks of upload " + uploadId + " are still being written");
+            }
+            int missing = chunkCount - received.cardinality();
+            if (missing > 0) {
+                throw new IllegalStateException("Upload " + uploadId + " is missing " + missing + " chunks");
+            }
+            completing = true;
+        }
+        
+        synchronized void abortComplete() {
+            completing = false;
+            handedOff = false;
+        }
+        
+        synchronized UploadSessionDto finish(String attachmentName, String jobId) {
+            handedOff = true;
+            UploadSessionDto dto = toDto();
+            dto.setStatus(UploadSessionDto.Status.COMPLETED);
+            dto.setAttachmentName(attachmentName);
+            dto.setJobId(jobId);
+            return dto;
+        }
+        
+        synchronized UploadSessionDto toDto() {
+            UploadSessionDto dto = new UploadSessionDto();
+            dto.setUploadId(uploadId);
+            dto.setPurpose(purpose);
+            dto.setCaseId(caseId);
+            dto.setFilename(filename);
+            dto.setContentType(contentType);
+            dto.setSize(size);
+            dto.setChunkSize(chunkSize);
+            dto.setChunkCount(chunkCount);
+            dto.setStatus(UploadSessionDto.Status.OPEN);
+            long receivedBytes = 0;
+            for (int index = 0; index < chunkCount; index++) {
+                if (received.get(index)) {
+                    receivedBytes += chunkLength(index);
+                } else {
+                    dto.getMissingOffsets().add(index * chunkSize);
+                }
+            }
+            dto.setReceivedBytes(receivedBytes);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.MetricsConfig;
+import com.example.casemgmt.dto.EmailDispatchDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.repository.CaseRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hands "email bank" requests to the {@code emailDispatchExecutor} so slow outbound mail never
+ * holds a request thread. Each bank gets its own lane with at most
+ * {@code casemgmt.email.per-bank-concurrency} sends in flight; further requests for that bank
+ * wait in the lane without occupying a dispatcher thread, up to {@code casemgmt.email.per-bank-queue}.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class EmailDispatchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmailDispatchService.class);
+    
+    @Autowired
+    private CaseRepository caseRepository;
+    
+    @Autowired
+    private BankEmailSender bankEmailSender;
+    
+    @Autowired
+    @Qualifier("emailDispatchExecutor")
+    private TaskExecutor emailDispatchExecutor;
+    
+    @Value("${casemgmt.email.per-bank-concurrency:2}")
+    private int perBankConcurrency;
+    
+    @Value("${casemgmt.email.per-bank-queue:100}")
+    private int perBankQueue;
+    
+    @Value("${casemgmt.email.retained-dispatches:1000}")
+    private int retainedDispatches;
+    
+    private final Map<String, EmailDispatchDto> dispatches = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> finishedTrackingIds = new ConcurrentLinkedQueue<>();
+    private final Map<String, BankLane> lanes = new ConcurrentHashMap<>();
+    
+    /**
+     * Queues an email to the bank of {@code caseId}, or returns empty if the case does not exist.
+     *
+     * @throws TaskRejectedException if the dispatcher queue or the bank's lane is full
+     */
+    public Optional<EmailDispatchDto> submit(String caseId) {
+        Optional<CaseEntity> entity = caseRepository.findByCaseId(caseId);
+        if (entity.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        String bank = entity.get().getBank();
+        EmailDispatchDto dispatch = new EmailDispatchDto(UUID.randomUUID().toString(), caseId, bank);
+        dispatch.setMessage("Email to bank queued for case " + caseId);
+        dispatches.put(dispatch.getTrackingId(), dispatch);
+        try {
+            lanes.computeIfAbsent(bank, key -> new BankLane()).offer(dispatch);
+        } catch (RuntimeException e) {
+            dispatches.remove(dispatch.getTrackingId());
+            throw e;
+        }
+        return Optional.of(dispatch);
+    }
+    
+    public Optional<EmailDispatchDto> getDispatch(String trackingId) {
+        return Optional.ofNullable(dispatches.get(trackingId));
+    }
+    
+    private void send(EmailDispatchDto dispatch) {
+        dispatch.setStatus(EmailDispatchDto.Status.SENDING);
+        try {
+            dispatch.setMessage(bankEmailSender.send(dispatch.getCaseId(), dispatch.getBank()));
+            dispatch.setSentAt(LocalDateTime.now());
+            dispatch.setStatus(EmailDispatchDto.Status.SENT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(dispatch, "Email dispatch interrupted");
+        } catch (Exception e) {
+            logger.error("Email to bank failed for case: {}", dispatch.getCaseId(), e);
+            fail(dispatch, "Email to bank failed: " + e.getMessage());
+        }
+        retire(dispatch.getTrackingId());
+    }
+    
+    private void fail(EmailDispatchDto dispatch, String message) {
+        dispatch.setMessage(message);
+        dispatch.setStatus(EmailDispatchDto.Status.FAILED);
+    }
+    
+    private void retire(String trackingId) {
+        finishedTrackingIds.add(trackingId);
+        while (finishedTrackingIds.size() > retainedDispatches) {
+            String oldest = finishedTrackingIds.poll();
+            if (oldest != null) {
+                dispatches.remove(oldest);
+            }
+        }
+    }
+    
+    /**
+     * Per-bank admission: runs a dispatch immediately while the bank is under its limit,
+     * otherwise parks it until one of the bank's in-flight sends completes.
+     */
+    private final class BankLane {
+        
+        private final Queue<EmailDispatchDto> waiting = new ArrayDeque<>();
+        private int inFlight;
+        
+        void offer(EmailDispatchDto dispatch) {
+            synchronized (this) {
+                if (inFlight >= perBankConcurrency) {
+                    if (waiting.size() >= perBankQueue) {
+                        throw new TaskRejectedException("Email queue for bank " + dispatch.getBank() + " is full");
+                    }
+                    waiting.add(dispatch);
+                    return;
+                }
+                inFlight++;
+            }
+            try {
+                execute(dispatch);
+            } catch (RuntimeException e) {
+                next();
+                throw e;
+            }
+        }
+        
+        private void execute(EmailDispatchDto dispatch) {
+            emailDispatchExecutor.execute(() -> {
+                try {
+                    send(dispatch);
+                } finally {
+                    next();
+                }
+            });
+        }
+        
+        private void next() {
+            while (true) {
+                EmailDispatchDto following;
+                synchronized (this) {
+                    following = waiting.poll();
+                    if (following == null) {
+                        inFlight--;
+                        return;
+                    }
+                }
+                try {
+                    execute(following);
+                    return;
+                } catch (RuntimeException e) {
+                    logger.warn("Email dispatcher saturated, dropping queued email for case: {}", following.getCaseId());
+                    fail(following, "Email dispatcher is saturated, please retry");
+                    retire(following.getTrackingId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.casemgmt.service;
+
+/**
+ * Thrown when the bytes received for a chunk do not match the checksum the client sent with it.
+ * The chunk stays missing and can simply be sent again.
+ */
+public class UploadChecksumException extends RuntimeException {
+    
+    public UploadChecksumException(String uploadId, long offset) {
+        super("Checksum mismatch for chunk at offset " + offset + " of upload " + uploadId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.MetricsConfig;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.VoicePlanDto;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.voice.VoiceIntent;
+import com.example.casemgmt.voice.VoicePlanner;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Plans a voice command and, when the plan shows cases, loads them in the same request so the
+ * client can render them without a second round trip. Only reads are run here; steps with side
+ * effects, such as emailing the bank, are still left for the client to execute.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class VoiceCommandService {
+    
+    @Autowired
+    private VoicePlanner voicePlanner;
+    
+    @Autowired
+    private CaseService caseService;
+    
+    /**
+     * Returns the plan for {@code text} together with the cases it refers to. {@code user} is
+     * the owner that "my cases" resolves to; without it such commands come back with the plan only.
+     */
+    public VoicePlanDto execute(String text, String user) {
+        VoicePlanDto plan = voicePlanner.plan(text);
+        VoiceIntent intent = VoiceIntent.valueOf(plan.getIntent().getName());
+        Map<String, String> entities = plan.getEntities();
+        
+        if (intent == VoiceIntent.EMAIL_BANK_FOR_CASE) {
+            caseService.getCaseById(entities.get("caseId")).ifPresent(found -> plan.setCases(List.of(found)));
+            return plan;
+        }
+        
+        CaseStatus status = null;
+        if (intent == VoiceIntent.LIST_CASES_PENDING) {
+            status = CaseStatus.PENDING;
+        } else if (intent == VoiceIntent.FILTER_STATUS) {
+            status = toCaseStatus(entities.get("status"));
+            if (status == null) {
+                return plan;
+            }
+        } else if (intent != VoiceIntent.LIST_CASES_MINE) {
+            return plan;
+        }
+        
+        String owner = null;
+        if ("me".equals(entities.get("assignedTo"))) {
+            if (user == null || user.isBlank()) {
+                return plan;
+            }
+            owner = user;
+        }
+        List<CaseDto> cases = caseService.getCasesByFilters(status, null, owner, null, null, null);
+        plan.setCases(cases);
+        return plan;
+    }
+    
+    // Statuses the voice agent recognizes but cases do not have, such as "approved", map to null
+    private static CaseStatus toCaseStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return CaseStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.casemgmt.stats;
+
+import com.example.casemgmt.model.CaseEntity;
+
+/**
+ * Case columns the stats index can group by. Each dimension owns a fixed slice of the packed
+ * 64-bit group key, so {@code bits} bounds how many distinct values it can hold.
+ */
+public enum CaseDimension {
+    STATUS("status", 4),
+    TYPE("type", 12),
+    BANK("bank", 16),
+    OWNER("owner", 16),
+    SUB_PROGRAM("subProgram", 16);
+    
+    private final String parameterName;
+    private final int bits;
+    private final int shift;
+    
+    CaseDimension(String parameterName, int bits) {
+        this.parameterName = parameterName;
+        this.bits = bits;
+        this.shift = Shifts.next(bits);
+    }
+    
+    public String getParameterName() {
+        return parameterName;
+    }
+    
+    int maxCodes() {
+        return 1 << bits;
+    }
+    
+    long pack(int code) {
+        return (long) code << shift;
+    }
+    
+    int unpack(long key) {
+        return (int) ((key >>> shift) & ((1L << bits) - 1));
+    }
+    
+    long keyMask() {
+        return ((1L << bits) - 1) << shift;
+    }
+    
+    String valueOf(CaseEntity entity) {
+        return switch (this) {
+            case STATUS -> entity.getStatus() != null ? entity.getStatus().name() : null;
+            case TYPE -> entity.getType();
+            case BANK -> entity.getBank();
+            case OWNER -> entity.getOwner();
+            case SUB_PROGRAM -> entity.getSubProgram();
+        };
+    }
+    
+    public static CaseDimension fromParameter(String value) {
+        String normalized = value.trim();
+        for (CaseDimension dimension : values()) {
+            if (dimension.parameterName.equalsIgnoreCase(normalized)
+                    || dimension.name().equalsIgnoreCase(normalized)) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported groupBy dimension: " + value);
+    }
+    
+    // Enum constants cannot read static fields of their own enum during construction
+    private static final class Shifts {
+        private static int used;
+        
+        static int next(int bits) {
+            int shift = used;
+            used += bits;
+            return shift;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.casemgmt.stats;
+
+import com.example.casemgmt.dto.CaseStatsDto;
+import com.example.casemgmt.index.CaseIndex;
+import com.example.casemgmt.model.CaseEntity;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory aggregate index over {@code cases} for dashboard counts. Dimension values are
+ * interned to small integer codes and packed into one {@code long} per case; for every subset
+ * of {@link CaseDimension dimensions} the index keeps a count and fine total per packed group
+ * key, maintained incrementally as cases are written. A stats query therefore reads only the
+ * pre-aggregated groups it returns and never touches the database.
+ */
+@Component
+public class CaseStatsIndex implements CaseIndex<CaseStatsIndex.Snapshot> {
+    
+    private static final CaseDimension[] DIMENSIONS = CaseDimension.values();
+    private static final int GROUPINGS = 1 << DIMENSIONS.length;
+    private static final int FINE_SCALE = 2;
+    
+    // Index 0 is the count, index 1 the fine total in hundredths
+    private static final int COUNT = 0;
+    private static final int FINE = 1;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // All guarded by lock
+    private final Dictionary[] dictionaries = new Dictionary[DIMENSIONS.length];
+    private final long[] groupingMasks = new long[GROUPINGS];
+    private final List<Map<Long, long[]>> groupings = new ArrayList<>(GROUPINGS);
+    private final Map<UUID, Row> rows = new HashMap<>();
+    
+    public CaseStatsIndex() {
+        for (CaseDimension dimension : DIMENSIONS) {
+            dictionaries[dimension.ordinal()] = new Dictionary(dimension.maxCodes());
+        }
+        for (int grouping = 0; grouping < GROUPINGS; grouping++) {
+            long mask = 0;
+            for (CaseDimension dimension : DIMENSIONS) {
+                if ((grouping & (1 << dimension.ordinal())) != 0) {
+                    mask |= dimension.keyMask();
+                }
+            }
+            groupingMasks[grouping] = mask;
+            groupings.add(new HashMap<>());
+        }
+    }
+    
+    /**
+     * The dimension values of one case, indexed by {@link CaseDimension} ordinal, and its fine.
+     */
+    public record Snapshot(UUID id, long version, String[] values, BigDecimal fineAmount) {}
+    
+    private record Row(long version, long key, long fine) {}
+    
+    @Override
+    public Snapshot snapshot(CaseEntity entity) {
+        String[] values = new String[DIMENSIONS.length];
+        for (CaseDimension dimension : DIMENSIONS) {
+            values[dimension.ordinal()] = dimension.valueOf(entity);
+        }
+        long version = entity.getVersion() != null ? entity.getVersion() : 0L;
+        return new Snapshot(entity.getId(), version, values, entity.getFineAmount());
+    }
+    
+    @Override
+    public void apply(Snapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            Row previous = rows.get(snapshot.id());
+            if (previous != null && previous.version() >= snapshot.version()) {
+                return;
+            }
+            long key = 0;
+            for (CaseDimension dimension : DIMENSIONS) {
+                key |= dimension.pack(dictionaries[dimension.ordinal()].encode(snapshot.values()[dimension.ordinal()]));
+            }
+            Row row = new Row(snapshot.version(), key, toHundredths(snapshot.fineAmount()));
+            if (previous != null) {
+                add(previous, -1);
+            }
+            add(row, 1);
+            rows.put(snapshot.id(), row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Row previous = rows.remove(id);
+            if (previous != null) {
+                add(previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Returns case counts grouped by {@code groupBy}; an empty set gives a single overall group.
+     * Fine totals are included when {@code sumFineAmount} is set.
+     */
+    public CaseStatsDto query(Set<CaseDimension> groupBy, boolean sumFineAmount) {
+        Set<CaseDimension> dimensions = groupBy.isEmpty() ? EnumSet.noneOf(CaseDimension.class) : EnumSet.copyOf(groupBy);
+        int grouping = 0;
+        List<String> names = new ArrayList<>(dimensions.size());
+        for (CaseDimension dimension : dimensions) {
+            grouping |= 1 << dimension.ordinal();
+            names.add(dimension.getParameterName());
+        }
+        
+        CaseStatsDto stats = new CaseStatsDto(names);
+        long totalCount = 0;
+        long totalFine = 0;
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Long, long[]> entry : groupings.get(grouping).entrySet()) {
+                long[] cell = entry.getValue();
+                Map<String, String> keys = new LinkedHashMap<>();
+                for (CaseDimension dimension : dimensions) {
+                    keys.put(dimension.getParameterName(), dictionaries[dimension.ordinal()].decode(dimension.unpack(entry.getKey())));
+                }
+                stats.getGroups().add(new CaseStatsDto.Group(keys, cell[COUNT], sumFineAmount ? fromHundredths(cell[FINE]) : null));
+                totalCount += cell[COUNT];
+                totalFine += cell[FINE];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        stats.getGroups().sort(Comparator.comparingLong(CaseStatsDto.Group::getCount).reversed());
+        stats.setTotalCount(totalCount);
+        if (sumFineAmount) {
+            stats.setTotalFineAmount(fromHundredths(totalFine));
+        }
+        return stats;
+    }
+    
+    private void add(Row row, int sign) {
+        for (int grouping = 0; grouping < GROUPINGS; grouping++) {
+            Map<Long, long[]> groups = groupings.get(grouping);
+            long groupKey = row.key() & groupingMasks[grouping];
+            long[] cell = groups.computeIfAbsent(groupKey, k -> new long[2]);
+            cell[COUNT] += sign;
+            cell[FINE] += sign * row.fine();
+            if (cell[COUNT] == 0) {
+                groups.remove(groupKey);
+            }
+        }
+    }
+    
+    private static long toHundredths(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(FINE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+    
+    private static BigDecimal fromHundredths(long hundredths) {
+        return BigDecimal.valueOf(hundredths, FINE_SCALE);
+    }
+    
+    /**
+     * Interns column values to dense codes. Code 0 stands for null and codes are never reused,
+     * so the dictionary only grows with the number of distinct values ever seen.
+     */
+    private static final class Dictionary {
+        
+        private final int maxCodes;
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        
+        Dictionary(int maxCodes) {
+            this.maxCodes = maxCodes;
+            values.add(null);
+        }
+        
+        int encode(String value) {
+            if (value == null) {
+                return 0;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                if (values.size() == maxCodes) {
+                    throw new IllegalStateException("Too many distinct values to index: " + value);
+                }
+                code = values.size();
+                values.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+        
+        String decode(int code) {
+            return values.get(code);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.casemgmt.voice;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Detects the intent and entities of a voice command in a single left-to-right pass.
+ * <p>
+ * Every keyword of every intent and entity is compiled into one Aho-Corasick automaton whose
+ * failure links are folded into a dense ASCII transition table, so each character of the command
+ * costs one array lookup no matter how many intents there are. Keyword hits arrive in order of
+ * their end position; each intent advances through its segments on the first hit that starts after
+ * the previous segment ended, which is the same leftmost match the original {@code .*}-joined
+ * regexes found. Matching itself allocates nothing; state lives in a reusable {@link Result}.
+ */
+final class IntentMatcher {
+    
+    private static final int ALPHABET = 128;
+    private static final VoiceIntent[] INTENTS = VoiceIntent.values();
+    private static final Entity[] ENTITIES = Entity.values();
+    private static final String[] STATUSES = {"pending", "open", "closed", "approved", "rejected", "new", "hold"};
+    
+    /**
+     * Entities extracted alongside the intent, ported from {@code extractEntities} in
+     * voice-agent-server; the key is the name the plan templates refer to.
+     */
+    enum Entity {
+        // case\s*([\w-]+)
+        CASE_ID("caseId", "case"),
+        // status\s*(pending|open|closed|approved|rejected|new|hold)
+        STATUS("status", "status"),
+        FILE_TYPE("fileType", "excel", "evidence", "file", "csv"),
+        ASSIGNED_TO("assignedTo", "my", "assigned to me");
+        
+        private final String key;
+        private final String[] keywords;
+        
+        Entity(String key, String... keywords) {
+            this.key = key;
+            this.keywords = keywords;
+        }
+        
+        String key() {
+            return key;
+        }
+    }
+    
+    /**
+     * Per-call matching state. Reused across calls on the same thread, so it is not thread-safe.
+     */
+    static final class Result {
+        
+        private final int[] stages = new int[INTENTS.length];
+        private final int[] segmentEnds = new int[INTENTS.length];
+        private final int[] entityStarts = new int[ENTITIES.length];
+        private final int[] entityEnds = new int[ENTITIES.length];
+        private CharSequence text;
+        
+        private void reset(CharSequence text) {
+            this.text = text;
+            Arrays.fill(stages, 0);
+            Arrays.fill(segmentEnds, 0);
+            Arrays.fill(entityStarts, -1);
+        }
+        
+        boolean has(Entity entity) {
+            return entityStarts[entity.ordinal()] >= 0;
+        }
+        
+        /**
+         * Returns the value of an extracted entity, or null if the command did not mention it.
+         */
+        String value(Entity entity) {
+            if (!has(entity)) {
+                return null;
+            }
+            return switch (entity) {
+                case CASE_ID -> text.subSequence(entityStarts[entity.ordinal()], entityEnds[entity.ordinal()]).toString();
+                case STATUS -> text.subSequence(entityStarts[entity.ordinal()], entityEnds[entity.ordinal()]).toString()
+                        .toLowerCase(Locale.ROOT);
+                case FILE_TYPE -> "file";
+                case ASSIGNED_TO -> "me";
+            };
+        }
+    }
+    
+    private final String[] keywords;
+    // transitions[state * ALPHABET + symbol], with the failure links already followed
+    private final int[] transitions;
+    // Keywords ending in each state, including those reached through failure links
+    private final int[][] outputs;
+    // For each keyword, (intent ordinal << 8 | segment index) of every segment listing it
+    private final int[][] segmentsByKeyword;
+    // For each keyword, the entity it introduces, if any
+    private final Entity[] entityByKeyword;
+    
+    IntentMatcher() {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> words = new ArrayList<>();
+        List<List<Integer>> segments = new ArrayList<>();
+        List<Entity> entities = new ArrayList<>();
+        for (VoiceIntent intent : INTENTS) {
+            for (int i = 0; i < intent.segments().length; i++) {
+                for (String keyword : intent.segments()[i].keywords()) {
+                    int id = keywordId(keyword, ids, words, segments, entities);
+                    segments.get(id).add(intent.ordinal() << 8 | i);
+                }
+            }
+        }
+        for (Entity entity : ENTITIES) {
+            for (String keyword : entity.keywords) {
+                entities.set(keywordId(keyword, ids, words, segments, entities), entity);
+            }
+        }
+        
+        keywords = words.toArray(new String[0]);
+        segmentsByKeyword = new int[keywords.length][];
+        for (int id = 0; id < keywords.length; id++) {
+            segmentsByKeyword[id] = segments.get(id).stream().mapToInt(Integer::intValue).toArray();
+        }
+        entityByKeyword = entities.toArray(new Entity[0]);
+        
+        // Keyword trie; -1 marks a missing edge
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> ending = new ArrayList<>();
+        trie.add(newNode());
+        ending.add(new ArrayList<>());
+        for (int id = 0; id < keywords.length; id++) {
+            int state = 0;
+            for (int i = 0; i < keywords[id].length(); i++) {
+                int symbol = keywords[id].charAt(i);
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newNode());
+                    ending.add(new ArrayList<>());
+                }
+                state = trie.get(state)[symbol];
+            }
+            ending.get(state).add(id);
+        }
+        
+        // Breadth-first, so a state's failure target is always complete before the state itself
+        int states = trie.size();
+        transitions = new int[states * ALPHABET];
+        outputs = new int[states][];
+        int[] failure = new int[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            List<Integer> output = new ArrayList<>(ending.get(state));
+            if (state != 0) {
+                for (int id : outputs[failure[state]]) {
+                    output.add(id);
+                }
+            }
+            outputs[state] = output.stream().mapToInt(Integer::intValue).toArray();
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = trie.get(state)[symbol];
+                int fallback = state == 0 ? 0 : transitions[failure[state] * ALPHABET + symbol];
+                if (child < 0) {
+                    transitions[state * ALPHABET + symbol] = fallback;
+                } else {
+                    transitions[state * ALPHABET + symbol] = child;
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Matches {@code text} into {@code result} and returns the most confident intent whose
+     * segments all appeared, or {@link VoiceIntent#UNKNOWN}.
+     */
+    VoiceIntent match(CharSequence text, Result result) {
+        result.reset(text);
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * ALPHABET + symbol(text.charAt(i))];
+            for (int id : outputs[state]) {
+                int start = i + 1 - keywords[id].length();
+                for (int segment : segmentsByKeyword[id]) {
+                    advance(segment >>> 8, segment & 0xFF, text, start, i + 1, result);
+                }
+                Entity entity = entityByKeyword[id];
+                if (entity != null && !result.has(entity)) {
+                    extract(entity, text, start, i + 1, result);
+                }
+            }
+        }
+        
+        VoiceIntent best = VoiceIntent.UNKNOWN;
+        for (VoiceIntent intent : INTENTS) {
+            int segments = intent.segments().length;
+            if (segments > 0 && result.stages[intent.ordinal()] == segments && intent.getConfidence() > best.getConfidence()) {
+                best = intent;
+            }
+        }
+        return best;
+    }
+    
+    private static void advance(int intent, int segment, CharSequence text, int start, int end, Result result) {
+        if (result.stages[intent] != segment || start < result.segmentEnds[intent]) {
+            return;
+        }
+        VoiceIntent.Tail tail = INTENTS[intent].segments()[segment].tail();
+        if (tail == VoiceIntent.Tail.NONE || tailEnd(text, skipSpaces(text, end), tail == VoiceIntent.Tail.IDENTIFIER) >= 0) {
+            result.stages[intent]++;
+            result.segmentEnds[intent] = end;
+        }
+    }
+    
+    private static void extract(Entity entity, CharSequence text, int start, int end, Result result) {
+        int valueStart = start;
+        int valueEnd = end;
+        if (entity == Entity.CASE_ID) {
+            valueStart = skipSpaces(text, end);
+            valueEnd = tailEnd(text, valueStart, true);
+        } else if (entity == Entity.STATUS) {
+            valueStart = skipSpaces(text, end);
+            valueEnd = statusEnd(text, valueStart);
+        }
+        if (valueEnd >= 0) {
+            result.entityStarts[entity.ordinal()] = valueStart;
+            result.entityEnds[entity.ordinal()] = valueEnd;
+        }
+    }
+    
+    private static int keywordId(String keyword, Map<String, Integer> ids, List<String> words,
+                          List<List<Integer>> segments, List<Entity> entities) {
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == 0 || c >= ALPHABET || Character.isUpperCase(c)) {
+                throw new IllegalArgumentException("Keywords must be lower-case ASCII: " + keyword);
+            }
+        }
+        return ids.computeIfAbsent(keyword, k -> {
+            words.add(k);
+            segments.add(new ArrayList<>());
+            entities.add(null);
+            return words.size() - 1;
+        });
+    }
+    
+    private static int[] newNode() {
+        int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        return node;
+    }
+    
+    // ASCII case folding; everything outside ASCII maps to NUL, which no keyword contains
+    private static int symbol(char c) {
+        if (c >= ALPHABET) {
+            return 0;
+        }
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+    
+    private static int skipSpaces(CharSequence text, int from) {
+        while (from < text.length() && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+    
+    // End of the run of \w (or [\w-]) characters at from, or -1 if there is none
+    private static int tailEnd(CharSequence text, int from, boolean allowDash) {
+        int end = from;
+        while (end < text.length() && (isWordChar(text.charAt(end)) || (allowDash && text.charAt(end) == '-'))) {
+            end++;
+        }
+        return end > from ? end : -1;
+    }
+    
+    private static int statusEnd(CharSequence text, int from) {
+        for (String status : STATUSES) {
+            int i = 0;
+            while (i < status.length() && from + i < text.length() && symbol(text.charAt(from + i)) == status.charAt(i)) {
+                i++;
+            }
+            if (i == status.length()) {
+                return from + i;
+            }
+        }
+        return -1;
+    }
+    
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
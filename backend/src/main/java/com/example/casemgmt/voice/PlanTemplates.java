@@ -0,0 +1,141 @@
+package com.example.casemgmt.voice;
+
+import com.example.casemgmt.dto.VoicePlanDto;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Plan templates per intent, ported from {@code PLAN_TEMPLATES} in voice-agent-server. The
+ * {@code {{entities.x}}} and {@code {{context.x}}} placeholders are split into literal and slot
+ * parts once, when the class loads, so rendering a step is a few appends rather than a regex
+ * replace; strings without placeholders are returned as they are.
+ */
+final class PlanTemplates {
+    
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([^}]+)\\}\\}");
+    
+    private static final Map<VoiceIntent, List<StepTemplate>> PLANS = new EnumMap<>(VoiceIntent.class);
+    
+    static {
+        PLANS.put(VoiceIntent.LIST_CASES_PENDING, List.of(
+                StepTemplate.ui("filter", "status", "pending", "Showing pending cases")));
+        PLANS.put(VoiceIntent.LIST_CASES_MINE, List.of(
+                StepTemplate.ui("filter", "assignedTo", "me", "Showing your cases")));
+        PLANS.put(VoiceIntent.FILTER_STATUS, List.of(
+                StepTemplate.ui("filter", "status", "{{entities.status}}", "Filtered status to {{entities.status}}")));
+        PLANS.put(VoiceIntent.UPLOAD_FILE, List.of(
+                StepTemplate.ui("upload", "upload", Map.of("type", new Template("{{entities.fileType}}")), "Ready to upload file")));
+        PLANS.put(VoiceIntent.EMAIL_BANK_FOR_CASE, List.of(
+                StepTemplate.api("POST", "{{context.caseApiBase}}/cases/{{entities.caseId}}/email", "Emailed bank for case {{entities.caseId}}")));
+    }
+    
+    private PlanTemplates() {}
+    
+    /**
+     * Renders the plan for {@code intent}, or a single no-op step if there is no template for it.
+     */
+    static List<VoicePlanDto.Step> render(VoiceIntent intent, Map<String, String> entities, Map<String, String> context) {
+        List<StepTemplate> templates = PLANS.get(intent);
+        if (templates == null) {
+            return List.of(VoicePlanDto.Step.noop("Can't perform an action for this intent"));
+        }
+        List<VoicePlanDto.Step> steps = new ArrayList<>(templates.size());
+        for (StepTemplate template : templates) {
+            steps.add(template.render(entities, context));
+        }
+        return steps;
+    }
+    
+    private record StepTemplate(String kind, String action, String target, Object value,
+                                String method, Template url, Template successMessage) {
+        
+        static StepTemplate ui(String action, String target, Object value, String successMessage) {
+            Object parsed = value instanceof String text ? new Template(text) : value;
+            return new StepTemplate("ui", action, target, parsed, null, null, new Template(successMessage));
+        }
+        
+        static StepTemplate api(String method, String url, String successMessage) {
+            return new StepTemplate("api", null, null, null, method, new Template(url), new Template(successMessage));
+        }
+        
+        VoicePlanDto.Step render(Map<String, String> entities, Map<String, String> context) {
+            VoicePlanDto.Step step = new VoicePlanDto.Step(kind);
+            step.setAction(action);
+            step.setTarget(target);
+            step.setMethod(method);
+            if (value instanceof Template template) {
+                step.setValue(template.render(entities, context));
+            } else if (value instanceof Map<?, ?> fields) {
+                Map<String, String> rendered = new LinkedHashMap<>();
+                fields.forEach((name, template) -> rendered.put((String) name, ((Template) template).render(entities, context)));
+                step.setValue(rendered);
+            }
+            if (url != null) {
+                step.setUrl(url.render(entities, context));
+            }
+            step.setSuccessMessage(successMessage.render(entities, context));
+            return step;
+        }
+    }
+    
+    /**
+     * A string with placeholders, pre-split so that {@code literals[i]} precedes slot {@code i}
+     * and the last literal follows the last slot.
+     */
+    private static final class Template {
+        
+        private final String source;
+        private final String[] literals;
+        // Placeholder text, kept for unresolved slots just as the Node version leaves them in place
+        private final String[] placeholders;
+        private final boolean[] fromContext;
+        private final String[] keys;
+        
+        Template(String source) {
+            this.source = source;
+            List<String> literalParts = new ArrayList<>();
+            List<String> placeholderParts = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(source);
+            int from = 0;
+            while (matcher.find()) {
+                literalParts.add(source.substring(from, matcher.start()));
+                placeholderParts.add(matcher.group());
+                from = matcher.end();
+            }
+            literalParts.add(source.substring(from));
+            literals = literalParts.toArray(new String[0]);
+            placeholders = placeholderParts.toArray(new String[0]);
+            fromContext = new boolean[placeholders.length];
+            keys = new String[placeholders.length];
+            for (int i = 0; i < placeholders.length; i++) {
+                String path = placeholders[i].substring(2, placeholders[i].length() - 2);
+                int dot = path.indexOf('.');
+                String root = dot < 0 ? path : path.substring(0, dot);
+                if (dot < 0 || path.indexOf('.', dot + 1) >= 0 || !(root.equals("entities") || root.equals("context"))) {
+                    throw new IllegalArgumentException("Unsupported placeholder " + placeholders[i] + " in " + source);
+                }
+                fromContext[i] = root.equals("context");
+                keys[i] = path.substring(dot + 1);
+            }
+        }
+        
+        String render(Map<String, String> entities, Map<String, String> context) {
+            if (placeholders.length == 0) {
+                return source;
+            }
+            StringBuilder rendered = new StringBuilder(source.length() + 32);
+            for (int i = 0; i < placeholders.length; i++) {
+                rendered.append(literals[i]);
+                String value = (fromContext[i] ? context : entities).get(keys[i]);
+                rendered.append(value == null || value.isEmpty() ? placeholders[i] : value);
+            }
+            return rendered.append(literals[placeholders.length]).toString();
+        }
+    }
+}
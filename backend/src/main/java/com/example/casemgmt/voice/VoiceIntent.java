@@ -0,0 +1,75 @@
+package com.example.casemgmt.voice;
+
+/**
+ * Intents the voice agent can plan for, ported from {@code INTENT_DEFINITIONS} in
+ * voice-agent-server. Each intent is matched by an ordered list of keyword groups that must
+ * appear in that order anywhere in the command, which is exactly what the original regexes
+ * ({@code /(show|list).*(pending|open).*cases/i} and so on) expressed. When several intents
+ * match, the one with the highest confidence wins.
+ */
+public enum VoiceIntent {
+    
+    LIST_CASES_PENDING("Show cases with pending status", 0.7,
+            Segment.of("show", "list"), Segment.of("pending", "open"), Segment.of("cases")),
+    
+    LIST_CASES_MINE("Show cases assigned to current user", 0.7,
+            Segment.of("show", "list"), Segment.of("my"), Segment.of("cases")),
+    
+    FILTER_STATUS("Filter cases by status", 0.6,
+            Segment.of("filter"), Segment.followedBy(Tail.WORD, "status")),
+    
+    UPLOAD_FILE("Upload evidence or alert file", 0.8,
+            Segment.of("upload"), Segment.of("excel", "file", "evidence")),
+    
+    EMAIL_BANK_FOR_CASE("Send email to bank for specific case", 0.8,
+            Segment.of("email", "mail"), Segment.of("bank"), Segment.followedBy(Tail.IDENTIFIER, "case")),
+    
+    UNKNOWN("No intent recognized", 0.2);
+    
+    private final String description;
+    private final double confidence;
+    private final Segment[] segments;
+    
+    VoiceIntent(String description, double confidence, Segment... segments) {
+        this.description = description;
+        this.confidence = confidence;
+        this.segments = segments;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public double getConfidence() {
+        return confidence;
+    }
+    
+    Segment[] segments() {
+        return segments;
+    }
+    
+    /**
+     * What has to follow a keyword, after optional whitespace, for it to count.
+     */
+    enum Tail {
+        NONE,
+        // \w+
+        WORD,
+        // [\w-]+
+        IDENTIFIER
+    }
+    
+    /**
+     * One alternation of keywords, matched case-insensitively anywhere after the previous segment.
+     */
+    record Segment(Tail tail, String... keywords) {
+        
+        static Segment of(String... keywords) {
+            return new Segment(Tail.NONE, keywords);
+        }
+        
+        static Segment followedBy(Tail tail, String... keywords) {
+            return new Segment(tail, keywords);
+        }
+    }
+}
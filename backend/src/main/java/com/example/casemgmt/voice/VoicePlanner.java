@@ -0,0 +1,50 @@
+package com.example.casemgmt.voice;
+
+import com.example.casemgmt.dto.VoicePlanDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Turns a voice command into the steps the voice agent should run, in-process instead of via
+ * the Node voice-agent-server. The intent matcher and plan templates are compiled once; per
+ * command the work is one scan over the text plus building the response.
+ */
+@Component
+public class VoicePlanner {
+    
+    private final IntentMatcher matcher = new IntentMatcher();
+    private final ThreadLocal<IntentMatcher.Result> results = ThreadLocal.withInitial(IntentMatcher.Result::new);
+    private final Map<String, String> context;
+    
+    public VoicePlanner(@Value("${casemgmt.voice-agent.case-api-base:/api}") String caseApiBase) {
+        // This backend is the case API for every app, so all apps share one context
+        this.context = Map.of("caseApiBase", caseApiBase);
+    }
+    
+    /**
+     * Detects the intent of {@code text} without building a plan.
+     */
+    public VoiceIntent detectIntent(CharSequence text) {
+        return matcher.match(text, results.get());
+    }
+    
+    public VoicePlanDto plan(String text) {
+        IntentMatcher.Result result = results.get();
+        VoiceIntent intent = matcher.match(text, result);
+        Map<String, String> entities = new LinkedHashMap<>();
+        for (IntentMatcher.Entity entity : IntentMatcher.Entity.values()) {
+            if (result.has(entity)) {
+                entities.put(entity.key(), result.value(entity));
+            }
+        }
+        
+        VoicePlanDto plan = new VoicePlanDto();
+        plan.setIntent(new VoicePlanDto.Intent(intent.name(), intent.getConfidence(), intent.getDescription()));
+        plan.setEntities(entities);
+        plan.setPlan(PlanTemplates.render(intent, entities, context));
+        return plan;
+    }
+}
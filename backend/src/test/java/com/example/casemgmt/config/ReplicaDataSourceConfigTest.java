@@ -0,0 +1,64 @@
+package com.example.casemgmt.config;
+
+import com.example.casemgmt.repository.CaseRepository;
+import com.example.casemgmt.service.CaseService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+// The "replica" is the same in-memory database reached through a second pool
+@SpringBootTest(properties = "casemgmt.datasource.replica.url=jdbc:h2:mem:testdb")
+@ActiveProfiles("test")
+class ReplicaDataSourceConfigTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testReadOnlyTransactionsUseReplicaPool() {
+        // Given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // When
+        int[] duringRead = readOnly.execute(status -> {
+            caseService.getCasesByFilters(null, "MCC", null, null, null, null);
+            return activeConnections();
+        });
+        int[] duringWrite = readWrite.execute(status -> {
+            caseRepository.count();
+            return activeConnections();
+        });
+
+        // Then
+        assertArrayEquals(new int[] {0, 1}, duringRead);
+        assertArrayEquals(new int[] {1, 0}, duringWrite);
+    }
+
+    private int[] activeConnections() {
+        return new int[] {primaryDataSource.getHikariPoolMXBean().getActiveConnections(),
+                replicaDataSource.getHikariPoolMXBean().getActiveConnections()};
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.casemgmt.config;
+
+import com.example.casemgmt.CaseManagementApplication;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.repository.CaseRepository;
+import com.example.casemgmt.service.CaseService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeedDataLoaderTest {
+
+    @TempDir
+    Path dbDir;
+
+    @Test
+    void testPersistentProfileKeepsCasesAcrossRestartsAndSeedsOnce() {
+        // Given
+        long seeded;
+        try (ConfigurableApplicationContext context = start()) {
+            seeded = context.getBean(CaseRepository.class).count();
+            CaseDto created = new CaseDto();
+            created.setCaseId("PERSIST-1");
+            created.setType("MCC");
+            created.setStatus(CaseStatus.NEW);
+            created.setOwner("1234");
+            created.setBank("Bradesco S.A.");
+            context.getBean(CaseService.class).createCase(created);
+        }
+
+        // When
+        try (ConfigurableApplicationContext context = start()) {
+            // Then
+            assertTrue(seeded > 0);
+            assertEquals(seeded + 1, context.getBean(CaseRepository.class).count());
+            assertTrue(context.getBean(CaseService.class).getCaseById("PERSIST-1").isPresent());
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CaseManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test", "persistent")
+                .run("--casemgmt.db.dir=" + dbDir, "--logging.level.root=WARN");
+    }
+}
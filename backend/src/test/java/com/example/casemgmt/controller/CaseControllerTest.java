@@ -1,27 +1,62 @@
 package com.example.casemgmt.controller;
 
+import com.example.casemgmt.dto.AlertImportJobDto;
+import com.example.casemgmt.dto.BulkCaseResultDto;
+import com.example.casemgmt.dto.CasePageDto;
+import com.example.casemgmt.dto.CaseSearchResultDto;
+import com.example.casemgmt.dto.CaseStatsDto;
+import com.example.casemgmt.dto.EmailDispatchDto;
+import com.example.casemgmt.evidence.EvidenceFile;
+import com.example.casemgmt.index.CaseIndexLoader;
 import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.search.CaseSearchIndex;
+import com.example.casemgmt.service.AlertImportService;
+import com.example.casemgmt.service.CaseBulkService;
+import com.example.casemgmt.service.CaseChangeFeed;
+import com.example.casemgmt.service.CaseConflictException;
+import com.example.casemgmt.service.CaseExportFormat;
+import com.example.casemgmt.service.CaseListFormat;
 import com.example.casemgmt.service.CaseService;
+import com.example.casemgmt.service.EmailDispatchService;
+import com.example.casemgmt.stats.CaseDimension;
+import com.example.casemgmt.stats.CaseStatsIndex;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.io.OutputStream;
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -35,9 +70,35 @@ class CaseControllerTest {
     @MockBean
     private CaseService caseService;
 
+    @MockBean
+    private CaseBulkService caseBulkService;
+
+    @MockBean
+    private CaseChangeFeed caseChangeFeed;
+
+    @MockBean
+    private CaseStatsIndex caseStatsIndex;
+
+    @MockBean
+    private CaseSearchIndex caseSearchIndex;
+
+    @MockBean
+    private CaseIndexLoader caseIndexLoader;
+
+    @MockBean
+    private AlertImportService alertImportService;
+
+    @MockBean
+    private EmailDispatchService emailDispatchService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @BeforeEach
+    void setUp() {
+        when(caseIndexLoader.isLoaded()).thenReturn(true);
+    }
+
     @Test
     void testGetAllCases() throws Exception {
         // Given
@@ -45,10 +106,16 @@ class CaseControllerTest {
             createMockCaseDto("MCC-CS-REC-P-251001-18783"),
             createMockCaseDto("MCC-CS-PRO-A-251002-18784")
         );
-        when(caseService.getAllCases()).thenReturn(mockCases);
+        doAnswer(invocation -> {
+            objectMapper.writeValue((OutputStream) invocation.getArgument(7), mockCases);
+            return 2L;
+        }).when(caseService).writeCases(any(), any(), any(), any(), any(), any(), eq(CaseListFormat.JSON), any(OutputStream.class));
 
         // When & Then
-        mockMvc.perform(get("/api/cases"))
+        MvcResult result = mockMvc.perform(get("/api/cases"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
@@ -57,6 +124,74 @@ class CaseControllerTest {
                 .andExpect(jsonPath("$[1].caseId").value("MCC-CS-PRO-A-251002-18784"));
     }
 
+    @Test
+    void testGetAllCasesAsCbor() throws Exception {
+        // Given
+        doAnswer(invocation -> 0L).when(caseService)
+                .writeCases(any(), any(), any(), any(), any(), any(), eq(CaseListFormat.CBOR), any(OutputStream.class));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/cases").param("status", "OPEN")
+                        .accept("application/cbor, application/json;q=0.5"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        verify(caseService).writeCases(eq(CaseStatus.OPEN), any(), any(), any(), any(), any(), eq(CaseListFormat.CBOR), any(OutputStream.class));
+    }
+
+    @Test
+    void testGetCasePage() throws Exception {
+        // Given
+        when(caseService.getCasePage("abc", 25)).thenReturn(new CasePageDto(Collections.emptyList(), 25, "def"));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/page").param("cursor", "abc").param("size", "25"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.size").value(25))
+                .andExpect(jsonPath("$.nextCursor").value("def"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void testGetCasePageInvalidCursor() throws Exception {
+        // Given
+        when(caseService.getCasePage(eq("garbage"), any())).thenThrow(new IllegalArgumentException("Invalid cursor: garbage"));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/page").param("cursor", "garbage"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExportCasesNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"caseId\":\"MCC-CS-REC-P-251001-18783\"}\n".getBytes());
+            return 1L;
+        }).when(caseService).exportCases(eq(CaseExportFormat.NDJSON), any(OutputStream.class));
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/cases/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"cases.ndjson\""))
+                .andExpect(content().string("{\"caseId\":\"MCC-CS-REC-P-251001-18783\"}\n"));
+    }
+
+    @Test
+    void testExportCasesInvalidFormat() throws Exception {
+        mockMvc.perform(get("/api/cases/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetCaseById() throws Exception {
         // Given
@@ -107,13 +242,41 @@ class CaseControllerTest {
     void testEmailBank() throws Exception {
         // Given
         String caseId = "MCC-CS-REC-P-251001-18783";
-        when(caseService.emailBank(caseId)).thenReturn("Email sent successfully to bank for case " + caseId);
+        EmailDispatchDto dispatch = new EmailDispatchDto("tracking-1", caseId, "Banco do Brasil, S.A.");
+        dispatch.setMessage("Email to bank queued for case " + caseId);
+        when(emailDispatchService.submit(caseId)).thenReturn(Optional.of(dispatch));
 
         // When & Then
         mockMvc.perform(post("/api/cases/{caseId}/email", caseId))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.message").value("Email sent successfully to bank for case " + caseId));
+                .andExpect(jsonPath("$.trackingId").value("tracking-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.message").value("Email to bank queued for case " + caseId));
+    }
+
+    @Test
+    void testEmailBankCaseNotFound() throws Exception {
+        when(emailDispatchService.submit("NON-EXISTENT-CASE")).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/cases/{caseId}/email", "NON-EXISTENT-CASE"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetEmailStatus() throws Exception {
+        // Given
+        String caseId = "MCC-CS-REC-P-251001-18783";
+        EmailDispatchDto dispatch = new EmailDispatchDto("tracking-1", caseId, "Banco do Brasil, S.A.");
+        dispatch.setStatus(EmailDispatchDto.Status.SENT);
+        when(emailDispatchService.getDispatch("tracking-1")).thenReturn(Optional.of(dispatch));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/{caseId}/email/{trackingId}", caseId, "tracking-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SENT"));
+        mockMvc.perform(get("/api/cases/{caseId}/email/{trackingId}", "OTHER-CASE", "tracking-1"))
+                .andExpect(status().isNotFound());
     }
 
     private com.example.casemgmt.dto.CaseDto createMockCaseDto(String caseId) {
@@ -139,23 +302,46 @@ class CaseControllerTest {
                 "test file content".getBytes()
         );
 
-        List<com.example.casemgmt.dto.CaseDto> mockCreatedCases = Arrays.asList(
-                createMockCaseDto("MCC-CS-UPL-251008-18790"),
-                createMockCaseDto("MCC-CS-UPL-251008-18791")
-        );
-
-        when(caseService.processAlertFile(any(MultipartFile.class))).thenReturn(mockCreatedCases);
+        AlertImportJobDto job = new AlertImportJobDto("job-1", "test-alert.xlsx");
+        when(alertImportService.submit(any(MultipartFile.class))).thenReturn(job);
 
         // When & Then
         mockMvc.perform(multipart("/api/cases/upload-alert")
                 .file(file))
-                .andExpect(status().isOk())
+                .andExpect(status().isAccepted())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.message").value("Alert file processed successfully"))
-                .andExpect(jsonPath("$.casesCreated").value(2))
-                .andExpect(jsonPath("$.filename").value("test-alert.xlsx"))
-                .andExpect(jsonPath("$.cases").isArray())
-                .andExpect(jsonPath("$.cases.length()").value(2));
+                .andExpect(jsonPath("$.message").value("Alert file accepted for processing"))
+                .andExpect(jsonPath("$.jobId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"))
+                .andExpect(jsonPath("$.filename").value("test-alert.xlsx"));
+    }
+
+    @Test
+    void testGetImportJob() throws Exception {
+        // Given
+        AlertImportJobDto job = new AlertImportJobDto("job-1", "test-alert.xlsx");
+        job.setStatus(AlertImportJobDto.Status.RUNNING);
+        job.setRowsParsed(3);
+        job.setRowsInserted(2);
+        job.rowRejected(4, "missing bank");
+        when(alertImportService.getJob("job-1")).thenReturn(Optional.of(job));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/import-jobs/{jobId}", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.rowsParsed").value(3))
+                .andExpect(jsonPath("$.rowsInserted").value(2))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("Row 4: missing bank"));
+    }
+
+    @Test
+    void testGetImportJobNotFound() throws Exception {
+        when(alertImportService.getJob("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/cases/import-jobs/{jobId}", "missing"))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -191,7 +377,156 @@ class CaseControllerTest {
                 .file(file))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    void testBulkCreateReturnsPerItemResults() throws Exception {
+        // Given
+        BulkCaseResultDto result = new BulkCaseResultDto();
+        result.add(0, "MCC-CS-REC-P-251001-18783", BulkCaseResultDto.Outcome.CREATED, null);
+        result.add(1, "MCC-CS-PRO-A-251002-18784", BulkCaseResultDto.Outcome.CONFLICT, "Case with ID MCC-CS-PRO-A-251002-18784 already exists");
+        when(caseBulkService.createCases(any())).thenReturn(result);
+        List<com.example.casemgmt.dto.CaseDto> cases = Arrays.asList(
+            createMockCaseDto("MCC-CS-REC-P-251001-18783"),
+            createMockCaseDto("MCC-CS-PRO-A-251002-18784")
+        );
+
+        // When & Then
+        mockMvc.perform(post("/api/cases/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(cases)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[1].outcome").value("CONFLICT"));
+    }
+
+    @Test
+    void testBulkUpdateTooLarge() throws Exception {
+        // Given
+        when(caseBulkService.updateCases(any())).thenThrow(new IllegalArgumentException("Request may contain at most 5000 cases"));
+
+        // When & Then
+        mockMvc.perform(patch("/api/cases/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"caseId\":\"MCC-CS-REC-P-251001-18783\",\"status\":\"CLOSED\"}]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetCaseReturnsETag() throws Exception {
+        // Given
+        com.example.casemgmt.dto.CaseDto caseDto = createMockCaseDto("MCC-CS-REC-P-251001-18783");
+        caseDto.setVersion(3L);
+        when(caseService.getCaseById("MCC-CS-REC-P-251001-18783")).thenReturn(Optional.of(caseDto));
 
+        // When & Then
+        mockMvc.perform(get("/api/cases/{caseId}", "MCC-CS-REC-P-251001-18783"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
 
+    @Test
+    void testPatchCaseWithStaleIfMatch() throws Exception {
+        // Given
+        when(caseService.updateCase(eq("MCC-CS-REC-P-251001-18783"), any(), eq(2L)))
+                .thenThrow(new CaseConflictException("MCC-CS-REC-P-251001-18783", 4L));
+
+        // When & Then
+        mockMvc.perform(patch("/api/cases/{caseId}", "MCC-CS-REC-P-251001-18783")
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"CLOSED\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    void testGetCaseStats() throws Exception {
+        // Given
+        CaseStatsDto stats = new CaseStatsDto(List.of("status", "bank"));
+        stats.setTotalCount(7);
+        when(caseStatsIndex.query(EnumSet.of(CaseDimension.STATUS, CaseDimension.BANK), true)).thenReturn(stats);
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/stats").param("groupBy", "status,bank").param("sum", "fineAmount"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCount").value(7))
+                .andExpect(jsonPath("$.groupBy[1]").value("bank"));
+    }
+
+    @Test
+    void testGetCaseStatsUnknownDimension() throws Exception {
+        mockMvc.perform(get("/api/cases/stats").param("groupBy", "notes"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchCases() throws Exception {
+        // Given
+        CaseSearchResultDto result = new CaseSearchResultDto("miscoded mcc", 0, 20);
+        result.setTotal(1);
+        result.getHits().add(new CaseSearchResultDto.Hit("CASE-001", CaseStatus.OPEN, 2.5, "Merchant miscoded the MCC"));
+        when(caseSearchIndex.search("miscoded mcc", 0, 20)).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/search").param("q", "miscoded mcc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].caseId").value("CASE-001"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void testStatsAndSearchUnavailableWhileIndexesLoad() throws Exception {
+        // Given
+        when(caseIndexLoader.isLoaded()).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/stats"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+        mockMvc.perform(get("/api/cases/search").param("q", "mcc"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void testSearchCasesRejectsBlankQueryAndOversizedPage() throws Exception {
+        mockMvc.perform(get("/api/cases/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/cases/search").param("q", "mcc").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testDownloadAttachmentRange(@TempDir Path dir) throws Exception {
+        // Given
+        Path file = Files.write(dir.resolve("blob"), "0123456789".getBytes(StandardCharsets.UTF_8));
+        EvidenceFile evidence = new EvidenceFile("evidence_1_scan.pdf", file, 10, "application/pdf", "ab12");
+        when(caseService.findEvidence("MCC-CS-REC-P-251001-18783", "evidence_1_scan.pdf")).thenReturn(Optional.of(evidence));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/MCC-CS-REC-P-251001-18783/attachments/evidence_1_scan.pdf"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(content().string("0123456789"));
+        mockMvc.perform(get("/api/cases/MCC-CS-REC-P-251001-18783/attachments/evidence_1_scan.pdf")
+                .header("Range", "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+        mockMvc.perform(get("/api/cases/MCC-CS-REC-P-251001-18783/attachments/evidence_1_scan.pdf")
+                .header("Range", "bytes=20-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */10"));
+    }
+
+    @Test
+    void testDownloadUnknownAttachment() throws Exception {
+        when(caseService.findEvidence(anyString(), anyString())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/cases/MCC-CS-REC-P-251001-18783/attachments/missing.pdf"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.casemgmt.controller;
+
+import com.example.casemgmt.dto.UploadSessionDto;
+import com.example.casemgmt.service.ChunkedUploadService;
+import com.example.casemgmt.service.UploadChecksumException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UploadController.class)
+class UploadControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ChunkedUploadService chunkedUploadService;
+
+    @Test
+    void testStartUpload() throws Exception {
+        // Given
+        UploadSessionDto session = new UploadSessionDto();
+        session.setUploadId("upload-1");
+        session.setChunkSize(8_388_608L);
+        session.setMissingOffsets(List.of(0L, 8_388_608L));
+        when(chunkedUploadService.start(any(UploadSessionDto.class))).thenReturn(session);
+
+        // When & Then
+        mockMvc.perform(post("/api/uploads")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"purpose\":\"EVIDENCE\",\"caseId\":\"MCC-CS-REC-P-251001-18783\",\"filename\":\"scan.pdf\",\"size\":10000000}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.uploadId").value("upload-1"))
+                .andExpect(jsonPath("$.missingOffsets[1]").value(8_388_608L));
+    }
+
+    @Test
+    void testUploadChunkWithBadChecksum() throws Exception {
+        // Given
+        when(chunkedUploadService.writeChunk(eq("upload-1"), eq(0L), any(InputStream.class), eq("00")))
+                .thenThrow(new UploadChecksumException("upload-1", 0));
+
+        // When & Then
+        mockMvc.perform(put("/api/uploads/upload-1/chunks/0")
+                .header("X-Chunk-SHA256", "00")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(new byte[] {1, 2, 3}))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void testCompleteUnknownUpload() throws Exception {
+        when(chunkedUploadService.complete("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/uploads/missing/complete"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.casemgmt.controller;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.VoicePlanDto;
+import com.example.casemgmt.service.VoiceCommandService;
+import com.example.casemgmt.voice.VoicePlanner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(VoiceAgentController.class)
+@Import(VoicePlanner.class)
+class VoiceAgentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private VoiceCommandService voiceCommandService;
+
+    @Test
+    void testGetPlan() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/voice-agent/plan")
+                .param("text", "show pending cases")
+                .param("appId", "demoApp"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.intent.name").value("LIST_CASES_PENDING"))
+                .andExpect(jsonPath("$.plan[0].kind").value("ui"))
+                .andExpect(jsonPath("$.plan[0].value").value("pending"))
+                .andExpect(jsonPath("$.plan[0].url").doesNotExist());
+    }
+
+    @Test
+    void testPostPlanWithoutText() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/voice-agent/plan")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"appId\":\"demoApp\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExecuteReturnsPlanWithCases() throws Exception {
+        // Given
+        CaseDto pending = new CaseDto();
+        pending.setCaseId("MCC-CS-REC-P-251001-18783");
+        VoicePlanDto plan = new VoicePlanDto();
+        plan.setCases(List.of(pending));
+        when(voiceCommandService.execute("show my pending cases", "Ana Souza")).thenReturn(plan);
+
+        // When & Then
+        mockMvc.perform(post("/voice-agent/execute")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"text\":\"show my pending cases\",\"user\":\"Ana Souza\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cases[0].caseId").value("MCC-CS-REC-P-251001-18783"));
+    }
+}
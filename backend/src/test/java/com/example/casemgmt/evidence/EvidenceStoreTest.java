@@ -0,0 +1,48 @@
+package com.example.casemgmt.evidence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvidenceStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void testStoresContentUnderItsSha256Once() throws Exception {
+        // Given
+        EvidenceStore store = new EvidenceStore(root);
+        byte[] content = "abc".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        EvidenceStore.StoredBlob first = store.store(new ByteArrayInputStream(content));
+        EvidenceStore.StoredBlob second = store.store(new ByteArrayInputStream(content));
+
+        // Then
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", first.sha256());
+        assertEquals(first, second);
+        assertEquals(3, first.size());
+        assertArrayEquals(content, Files.readAllBytes(store.find(first.sha256()).orElseThrow()));
+        try (Stream<Path> files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    void testFindRejectsMalformedDigest() {
+        EvidenceStore store = new EvidenceStore(root);
+
+        assertTrue(store.find("../../etc/passwd").isEmpty());
+        assertTrue(store.find("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad").isEmpty());
+    }
+}
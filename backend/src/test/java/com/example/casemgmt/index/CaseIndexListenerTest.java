@@ -0,0 +1,164 @@
+package com.example.casemgmt.index;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.CaseStatsDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.search.CaseSearchIndex;
+import com.example.casemgmt.service.CaseService;
+import com.example.casemgmt.stats.CaseDimension;
+import com.example.casemgmt.stats.CaseStatsIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CaseIndexListenerTest {
+
+    private static final String BANK = "Stats Test Bank";
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CaseStatsIndex caseStatsIndex;
+
+    @Autowired
+    private CaseSearchIndex caseSearchIndex;
+
+    @Autowired
+    private CaseIndexLoader caseIndexLoader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cases WHERE case_id LIKE 'STATS-%'");
+    }
+
+    @Test
+    void testServiceWritesUpdateIndexes() {
+        // Given
+        caseService.createCase(createDto("STATS-1", "100.00"));
+        caseService.createCase(createDto("STATS-2", "50.00"));
+
+        // When
+        CaseDto patch = new CaseDto();
+        patch.setStatus(CaseStatus.CLOSED);
+        caseService.updateCase("STATS-2", patch, null);
+
+        // Then
+        Map<Map<String, String>, Long> counts = countsForBank();
+        assertEquals(1L, counts.get(Map.of("status", "PENDING", "bank", BANK)));
+        assertEquals(1L, counts.get(Map.of("status", "CLOSED", "bank", BANK)));
+        assertEquals(CaseStatus.CLOSED, caseSearchIndex.search("stats2", 0, 10).getHits().stream()
+                .filter(hit -> hit.getCaseId().equals("STATS-2"))
+                .findFirst()
+                .orElseThrow()
+                .getStatus());
+    }
+
+    @Test
+    void testSeedDataIsLoadedAtStartup() {
+        // Given: data.sql rows are inserted with plain SQL, so only the startup load can see them
+        String seedBank = "HSBC Bank Brasil S.A.";
+        long seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cases WHERE bank = ?", Long.class, seedBank);
+
+        // When
+        CaseStatsDto stats = caseStatsIndex.query(EnumSet.of(CaseDimension.BANK), true);
+
+        // Then
+        CaseStatsDto.Group group = stats.getGroups().stream()
+                .filter(candidate -> seedBank.equals(candidate.getKeys().get("bank")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(seeded, group.getCount());
+        BigDecimal fines = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(fine_amount), 0) FROM cases WHERE bank = ?", BigDecimal.class, seedBank);
+        assertEquals(0, fines.compareTo(group.getFineAmount()));
+        assertEquals(Status.UP, caseIndexLoader.health().getStatus());
+    }
+
+    @Test
+    void testFailingIndexIsMarkedStaleWithoutFailingTheWrite() {
+        // When
+        CaseDto created = caseService.createCase(createDto(PoisonedIndex.POISONED_CASE, "75.00"));
+
+        // Then: the write and the other indexes go ahead, and the failing index is reported
+        assertTrue(caseService.getCaseById(created.getCaseId()).isPresent());
+        assertEquals(1, caseSearchIndex.search("statspoisoned", 0, 10).getHits().size());
+        Health health = caseIndexLoader.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(Set.of(PoisonedIndex.class.getSimpleName()), ((Map<?, ?>) health.getDetails().get("stale")).keySet());
+    }
+
+    private Map<Map<String, String>, Long> countsForBank() {
+        CaseStatsDto stats = caseStatsIndex.query(EnumSet.of(CaseDimension.STATUS, CaseDimension.BANK), false);
+        return stats.getGroups().stream()
+                .filter(group -> BANK.equals(group.getKeys().get("bank")))
+                .collect(Collectors.toMap(CaseStatsDto.Group::getKeys, CaseStatsDto.Group::getCount));
+    }
+
+    @TestConfiguration
+    static class PoisonedIndexConfig {
+
+        @Bean
+        PoisonedIndex poisonedIndex() {
+            return new PoisonedIndex();
+        }
+    }
+
+    /**
+     * Index that cannot take one particular case, like a stats dimension out of codes.
+     */
+    static class PoisonedIndex implements CaseIndex<String> {
+
+        static final String POISONED_CASE = "STATS-POISONED";
+
+        @Override
+        public String snapshot(CaseEntity entity) {
+            return entity.getCaseId();
+        }
+
+        @Override
+        public void apply(String caseId) {
+            if (POISONED_CASE.equals(caseId)) {
+                throw new IllegalStateException("Too many distinct values to index: " + caseId);
+            }
+        }
+
+        @Override
+        public void remove(UUID id) {
+        }
+    }
+
+    private CaseDto createDto(String caseId, String fineAmount) {
+        CaseDto dto = new CaseDto();
+        dto.setCaseId(caseId);
+        dto.setType("MCC");
+        dto.setStatus(CaseStatus.PENDING);
+        dto.setOwner("GBSC ANALYST");
+        dto.setBank(BANK);
+        dto.setFineAmount(new BigDecimal(fineAmount));
+        dto.setDescription("Index listener check " + caseId.replace("-", "").toLowerCase());
+        return dto;
+    }
+}
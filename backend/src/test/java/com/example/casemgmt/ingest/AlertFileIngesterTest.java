@@ -0,0 +1,130 @@
+package com.example.casemgmt.ingest;
+
+import com.example.casemgmt.dto.AlertImportJobDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.repository.CaseRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlertFileIngesterTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @InjectMocks
+    private AlertFileIngester ingester;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<List<CaseEntity>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ingester, "batchSize", 2);
+    }
+
+    @Test
+    void testIngestCsvInBatches() throws Exception {
+        // Given
+        when(caseRepository.findExistingCaseIds(anyCollection())).thenReturn(List.of("EXISTING-1"));
+        Path csv = write("alerts.csv",
+                "Case ID,Type,Status,Owner,Bank,Fine Amount,Description\r\n" +
+                "NEW-1,MCC,open,GBSC ANALYST,\"Banco do Brasil, S.A.\",\"15,000.00\",\"Line one\nline \"\"two\"\"\"\r\n" +
+                "NEW-2,MCC,,GBSC ANALYST,Bradesco S.A.,,\r\n" +
+                "EXISTING-1,MCC,NEW,GBSC ANALYST,Bradesco S.A.,,\r\n" +
+                "NEW-3,MCC,NEW,GBSC ANALYST,,,\r\n" +
+                "NEW-4,MCC,BOGUS,GBSC ANALYST,Bradesco S.A.,,\r\n");
+        AlertImportJobDto result = new AlertImportJobDto("job-1", "alerts.csv");
+
+        // When
+        ingester.ingest(csv, result, batches::add);
+
+        // Then
+        assertEquals(5, result.getRowsParsed());
+        assertEquals(2, result.getRowsInserted());
+        assertEquals(3, result.getRowsRejected());
+        assertEquals(1, batches.size());
+
+        CaseEntity first = batches.get(0).get(0);
+        assertEquals("NEW-1", first.getCaseId());
+        assertEquals(CaseStatus.OPEN, first.getStatus());
+        assertEquals("Banco do Brasil, S.A.", first.getBank());
+        assertEquals(new BigDecimal("15000.00"), first.getFineAmount());
+        assertEquals("Line one\nline \"two\"", first.getDescription());
+        assertEquals(List.of("alerts.csv"), first.getAttachments());
+        assertEquals(CaseStatus.NEW, batches.get(0).get(1).getStatus());
+    }
+
+    @Test
+    void testIngestXlsx() throws Exception {
+        // Given
+        when(caseRepository.findExistingCaseIds(anyCollection())).thenReturn(List.of());
+        Path xlsx = tempDir.resolve("alerts.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(xlsx)) {
+            Sheet sheet = workbook.createSheet();
+            fillRow(sheet.createRow(0), "type", "owner", "bank", "notes", "fineAmount");
+            fillRow(sheet.createRow(1), "GRIP", "MCCGBS ANALYST", "Itau Unibanco S.A.");
+            Row row = sheet.createRow(2);
+            fillRow(row, "MATCH", "GBSC ANALYST", "Caixa Economica Federal");
+            row.createCell(4).setCellValue(1250.5);
+            workbook.write(out);
+        }
+        AlertImportJobDto result = new AlertImportJobDto("job-2", "alerts.xlsx");
+
+        // When
+        ingester.ingest(xlsx, result, batches::add);
+
+        // Then
+        assertEquals(2, result.getRowsInserted());
+        assertEquals(0, result.getRowsRejected());
+        CaseEntity second = batches.get(0).get(1);
+        assertEquals("MATCH", second.getType());
+        assertEquals(new BigDecimal("1250.5"), second.getFineAmount());
+        assertEquals(null, second.getNotes());
+    }
+
+    @Test
+    void testIngestRejectsHeaderWithoutRequiredColumns() throws Exception {
+        Path csv = write("bad.csv", "caseId,type\nX-1,MCC\n");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> ingester.ingest(csv, new AlertImportJobDto("job-3", "bad.csv"), batches::add));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = tempDir.resolve(name);
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private void fillRow(Row row, String... values) {
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.casemgmt.mapping;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.CaseField;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseMapperTest {
+
+    private final CaseMapper caseMapper = new CaseMapper();
+
+    @Test
+    void testApplyPatchOnlyTouchesSentFields() throws Exception {
+        // Given
+        CaseEntity entity = createEntity();
+        CaseDto patch = new ObjectMapper().readValue("{\"status\":\"CLOSED\",\"notes\":null,\"owner\":null}", CaseDto.class);
+
+        // When
+        caseMapper.applyPatch(entity, patch);
+
+        // Then
+        assertEquals(CaseStatus.CLOSED, entity.getStatus());
+        assertNull(entity.getNotes());
+        assertEquals("GBSC ANALYST", entity.getOwner());
+        assertEquals("Merchant flagged by monitoring", entity.getDescription());
+        assertEquals(new BigDecimal("1500.00"), entity.getFineAmount());
+    }
+
+    @Test
+    void testDiffIgnoresFineAmountScale() {
+        // Given
+        CaseEntity entity = createEntity();
+        CaseDto sameAmount = new CaseDto();
+        sameAmount.setFineAmount(new BigDecimal("1500.0"));
+        CaseDto clearedAmount = new CaseDto();
+        clearedAmount.setFineAmount(null);
+
+        // When
+        long unchanged = caseMapper.diff(entity, sameAmount);
+        long cleared = caseMapper.diff(entity, clearedAmount);
+
+        // Then
+        assertEquals(0, unchanged);
+        assertEquals(CaseField.FINE_AMOUNT.mask(), cleared);
+    }
+
+    @Test
+    void testPresentFieldsTrackSetters() {
+        // Given
+        CaseDto dto = new CaseDto();
+
+        // When
+        dto.setBank("Itau");
+        dto.setFineAmount(null);
+
+        // Then
+        assertEquals(CaseField.BANK.mask() | CaseField.FINE_AMOUNT.mask(), dto.getPresentFields());
+        assertTrue(dto.isPresent(CaseField.FINE_AMOUNT));
+        assertFalse(dto.isPresent(CaseField.NOTES));
+    }
+
+    @Test
+    void testJsonWriterMatchesReflectiveSerialization() throws Exception {
+        // Given
+        ObjectMapper reflective = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        CaseEntity entity = createEntity();
+        CaseDto dto = caseMapper.toDto(entity);
+
+        // When
+        StringWriter fromEntity = new StringWriter();
+        try (JsonGenerator generator = reflective.getFactory().createGenerator(fromEntity)) {
+            CaseJsonWriter.write(generator, entity, true);
+        }
+        StringWriter fromDto = new StringWriter();
+        try (JsonGenerator generator = reflective.getFactory().createGenerator(fromDto)) {
+            CaseJsonWriter.write(generator, dto);
+        }
+
+        // Then
+        JsonNode expected = reflective.readTree(reflective.writeValueAsString(dto));
+        assertEquals(expected, reflective.readTree(fromEntity.toString()));
+        assertEquals(expected, reflective.readTree(fromDto.toString()));
+    }
+
+    private CaseEntity createEntity() {
+        CaseEntity entity = new CaseEntity();
+        entity.setId(UUID.randomUUID());
+        entity.setCaseId("MCC-CS-REC-P-251001-18783");
+        entity.setType("MCC");
+        entity.setStatus(CaseStatus.OPEN);
+        entity.setCreatedDate(LocalDateTime.of(2025, 10, 1, 9, 30));
+        entity.setLastUpdatedDate(LocalDateTime.of(2025, 10, 2, 14, 5, 7, 123000000));
+        entity.setOwner("GBSC ANALYST");
+        entity.setDescription("Merchant flagged by monitoring");
+        entity.setAttachments(new ArrayList<>(List.of("alert.xlsx", "evidence.pdf")));
+        entity.setBank("Bradesco S.A.");
+        entity.setFineAmount(new BigDecimal("1500.00"));
+        entity.setNotes("Awaiting \"acquirer\" response");
+        entity.setComplainantCountry("BR");
+        entity.setSubProgram("MCC");
+        return entity;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.casemgmt.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementMetricsFilterTest {
+
+    @Test
+    void testRecordsStatementsPreparedDuringRequest() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(registry);
+        SqlStatementCounter inspector = new SqlStatementCounter();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/cases/MCC-1");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/cases/{caseId}");
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+        });
+        inspector.inspect("select outside any request");
+
+        // Then
+        DistributionSummary statements = registry.get(SqlStatementMetricsFilter.METRIC)
+                .tag("uri", "/api/cases/{caseId}")
+                .summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+    }
+}
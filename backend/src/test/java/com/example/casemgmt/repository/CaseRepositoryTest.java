@@ -0,0 +1,112 @@
+package com.example.casemgmt.repository;
+
+import com.example.casemgmt.dto.CaseSummary;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CaseRepositoryTest {
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        caseRepository.deleteAll();
+        LocalDateTime sameInstant = LocalDateTime.of(2025, 2, 1, 12, 0);
+        for (int i = 0; i < 12; i++) {
+            caseRepository.save(createCase("KEYSET-" + i));
+        }
+        caseRepository.flush();
+        for (int i = 0; i < 12; i++) {
+            // created_date is insert-only, so pin it directly; every third case shares a timestamp
+            // so the id tie-breaker is exercised
+            jdbcTemplate.update("UPDATE cases SET created_date = ? WHERE case_id = ?",
+                                i % 3 == 0 ? sameInstant : sameInstant.plusMinutes(i), "KEYSET-" + i);
+        }
+    }
+
+    @Test
+    void testKeysetPagesCoverEveryCaseOnce() {
+        PageRequest limit = PageRequest.ofSize(5);
+        List<CaseSummary> seen = new ArrayList<>(caseRepository.findFirstSummaryPage(limit));
+        List<CaseSummary> page = seen;
+        while (page.size() == 5) {
+            CaseSummary last = page.get(page.size() - 1);
+            page = caseRepository.findSummaryPageAfter(last.getCreatedDate(), last.getId(), limit);
+            seen.addAll(page);
+        }
+
+        Set<UUID> ids = new HashSet<>();
+        seen.forEach(summary -> ids.add(summary.getId()));
+        assertEquals(12, seen.size());
+        assertEquals(12, ids.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1).getCreatedDate().compareTo(seen.get(i).getCreatedDate()) >= 0);
+        }
+    }
+
+    @Test
+    void testStreamAllReadsEveryCase() {
+        try (Stream<CaseEntity> cases = caseRepository.streamAll()) {
+            assertEquals(12, cases.count());
+        }
+    }
+
+    @Test
+    void testFindByFiltersAppliesOnlyActiveFilters() {
+        caseRepository.findByCaseId("KEYSET-1").ifPresent(entity -> {
+            entity.setStatus(CaseStatus.OPEN);
+            entity.setBank("Bradesco S.A.");
+        });
+        caseRepository.flush();
+
+        assertEquals(12, caseRepository.findByFilters(null, null, null, null, null, null).size());
+        assertEquals(1, caseRepository.findByFilters(CaseStatus.OPEN, null, null, null, null, null).size());
+        assertEquals(1, caseRepository.findByFilters(CaseStatus.OPEN, "MCC", null, "Bradesco S.A.", null, null).size());
+        assertEquals(0, caseRepository.findByFilters(CaseStatus.OPEN, null, null, "Banco do Brasil, S.A.", null, null).size());
+        assertEquals(4, caseRepository.findByFilters(null, null, null, null,
+                LocalDateTime.of(2025, 2, 1, 12, 0), LocalDateTime.of(2025, 2, 1, 12, 0)).size());
+    }
+
+    @Test
+    void testStatusFilterUsesCompositeIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM cases WHERE status = 'OPEN' AND created_date >= TIMESTAMP '2025-01-01 00:00:00'",
+                String.class);
+
+        assertTrue(plan.contains("IDX_CASES_STATUS_CREATED_DATE"), plan);
+    }
+
+    private CaseEntity createCase(String caseId) {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(caseId);
+        entity.setType("MCC");
+        entity.setStatus(CaseStatus.NEW);
+        entity.setOwner("MCCANALYST MCCANALYST");
+        entity.setBank("Banco do Brasil, S.A.");
+        return entity;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.casemgmt.search;
+
+import com.example.casemgmt.dto.CaseSearchResultDto;
+import com.example.casemgmt.model.CaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseSearchIndexTest {
+
+    private final CaseSearchIndex index = new CaseSearchIndex();
+
+    @Test
+    void testAnalyzerFoldsAccentsAndStems() {
+        assertEquals(List.of("miscod", "merchant", "category", "cod"),
+                CaseTextAnalyzer.analyze("Miscoded the merchant category codes"));
+        assertEquals(List.of("transacao", "miscod"), CaseTextAnalyzer.analyze("Transação miscoding"));
+    }
+
+    @Test
+    void testRanksBetterMatchesFirstAndPaginates() {
+        // Given
+        index.apply(snapshot(UUID.randomUUID(), 0, "CASE-1", "Merchant miscoded the MCC on gambling transactions", "MCC 7995 expected"));
+        index.apply(snapshot(UUID.randomUUID(), 0, "CASE-2", "Excessive chargebacks reported by the acquirer", null));
+        index.apply(snapshot(UUID.randomUUID(), 0, "CASE-3", "Possible miscoding of the MCC", null));
+        index.apply(snapshot(UUID.randomUUID(), 0, "CASE-4", "Late chargeback documentation", "Merchant miscodes"));
+
+        // When
+        CaseSearchResultDto first = index.search("mcc miscode", 0, 2);
+        CaseSearchResultDto second = index.search("mcc miscode", 1, 2);
+
+        // Then: the short description matching both words outranks the longer one
+        assertEquals(3, first.getTotal());
+        assertEquals("CASE-3", first.getHits().get(0).getCaseId());
+        assertEquals("CASE-1", first.getHits().get(1).getCaseId());
+        assertTrue(first.isHasMore());
+        assertEquals(1, second.getHits().size());
+        assertEquals("CASE-4", second.getHits().get(0).getCaseId());
+        assertEquals("Merchant miscodes", second.getHits().get(0).getSnippet());
+        assertFalse(second.isHasMore());
+        // A page far past the end is empty, even where page * size overflows an int
+        assertTrue(index.search("mcc miscode", 30_000_000, 100).getHits().isEmpty());
+    }
+
+    @Test
+    void testUpdatesAndRemovalsAreVisibleImmediately() {
+        // Given
+        UUID id = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        index.apply(snapshot(id, 0, "CASE-1", "Duplicate processing of refunds", null));
+        index.apply(snapshot(other, 0, "CASE-2", "Refunds not credited", null));
+
+        // When
+        index.apply(snapshot(id, 1, "CASE-1", "Cross-border fee dispute", null));
+        index.apply(snapshot(id, 0, "CASE-1", "Duplicate processing of refunds", null));
+        index.remove(other);
+
+        // Then: the stale version-0 snapshot is ignored
+        assertEquals(0, index.search("refund", 0, 10).getTotal());
+        assertEquals("CASE-1", index.search("disputes", 0, 10).getHits().get(0).getCaseId());
+        assertEquals(1, index.size());
+    }
+
+    private static CaseSearchIndex.Snapshot snapshot(UUID id, long version, String caseId, String description, String notes) {
+        return new CaseSearchIndex.Snapshot(id, version, caseId, CaseStatus.OPEN, description, notes);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.BulkCaseResultDto;
+import com.example.casemgmt.dto.BulkCaseResultDto.Outcome;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.repository.CaseRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CaseBulkServiceTest {
+
+    private static final int CASE_COUNT = 1200;
+
+    @Autowired
+    private CaseBulkService caseBulkService;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM case_attachments WHERE case_id IN (SELECT id FROM cases WHERE case_id LIKE 'BULK-%')");
+        jdbcTemplate.update("DELETE FROM cases WHERE case_id LIKE 'BULK-%'");
+    }
+
+    @Test
+    void testCreateCasesReportsEachItem() {
+        // Given
+        caseBulkService.createCases(List.of(createDto("BULK-EXISTING")));
+        CaseDto invalid = createDto("BULK-INVALID");
+        invalid.setOwner("");
+        List<CaseDto> cases = List.of(createDto("BULK-1"), invalid, createDto("BULK-EXISTING"), createDto("BULK-1"));
+
+        // When
+        BulkCaseResultDto result = caseBulkService.createCases(cases);
+
+        // Then
+        assertEquals(Outcome.CREATED, result.getItems().get(0).getOutcome());
+        assertEquals(Outcome.INVALID, result.getItems().get(1).getOutcome());
+        assertEquals("owner: must not be blank", result.getItems().get(1).getMessage());
+        assertEquals(Outcome.CONFLICT, result.getItems().get(2).getOutcome());
+        assertEquals(Outcome.CONFLICT, result.getItems().get(3).getOutcome());
+        assertEquals(1, result.getSucceeded());
+        assertTrue(caseRepository.existsByCaseId("BULK-1"));
+    }
+
+    @Test
+    void testBulkWritesAreBatched() {
+        // Given
+        List<CaseDto> cases = new ArrayList<>(CASE_COUNT);
+        for (int i = 0; i < CASE_COUNT; i++) {
+            cases.add(createDto("BULK-" + i));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        BulkCaseResultDto created = caseBulkService.createCases(cases);
+
+        // Then: batched statements are prepared once and reused, so one IN probe plus one insert
+        // each for cases and attachments; row-by-row writes would prepare one per row
+        assertEquals(CASE_COUNT, created.getSucceeded());
+        assertEquals(3, statistics.getPrepareStatementCount());
+
+        // Given
+        List<CaseDto> patches = new ArrayList<>(CASE_COUNT + 1);
+        for (int i = 0; i < CASE_COUNT; i++) {
+            CaseDto patch = new CaseDto();
+            patch.setCaseId("BULK-" + i);
+            patch.setStatus(CaseStatus.CLOSED);
+            patch.setNotes(null);
+            patches.add(patch);
+        }
+        CaseDto missing = new CaseDto();
+        missing.setCaseId("BULK-MISSING");
+        patches.add(missing);
+        statistics.clear();
+
+        // When
+        BulkCaseResultDto updated = caseBulkService.updateCases(patches);
+
+        // Then: one IN select plus one batched update
+        assertEquals(CASE_COUNT, updated.getSucceeded());
+        assertEquals(Outcome.NOT_FOUND, updated.getItems().get(CASE_COUNT).getOutcome());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        CaseEntity entity = caseRepository.findByCaseId("BULK-7").orElseThrow();
+        assertEquals(CaseStatus.CLOSED, entity.getStatus());
+        assertNull(entity.getNotes());
+    }
+
+    private CaseDto createDto(String caseId) {
+        CaseDto dto = new CaseDto();
+        dto.setCaseId(caseId);
+        dto.setType("MCC");
+        dto.setStatus(CaseStatus.OPEN);
+        dto.setOwner("GBSC ANALYST");
+        dto.setBank("Bradesco S.A.");
+        dto.setNotes("Initial review");
+        dto.setAttachments(List.of("alert-" + caseId + ".xlsx"));
+        return dto;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.ExecutorConfig;
+import com.example.casemgmt.dto.CaseChangeDto;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseChangeFeedTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private final CaseChangeFeed feed = new CaseChangeFeed(
+            new ObjectMapper().registerModule(new JavaTimeModule()), tasks::add, 2, 1, Duration.ofMinutes(1), Duration.ofSeconds(10));
+
+    @Test
+    void testSlowSubscriberDropsOldestChanges() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(emitter);
+
+        // When: five changes arrive before the subscriber's drain task gets to run
+        for (int i = 1; i <= 5; i++) {
+            feed.onCaseChange(CaseChangeDto.updated("CASE-" + i, (long) i));
+        }
+        runTasks();
+
+        // Then
+        assertEquals(3, emitter.events.size());
+        assertTrue(emitter.events.get(0).startsWith("event:overflow\ndata:3"));
+        assertTrue(emitter.events.get(1).contains("\"caseId\":\"CASE-4\""));
+        assertTrue(emitter.events.get(2).startsWith("id:5\nevent:UPDATED"));
+    }
+
+    @Test
+    void testChangeCarriesCase() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(emitter);
+        CaseDto caseDto = new CaseDto();
+        caseDto.setCaseId("MCC-CS-REC-P-251001-18783");
+        caseDto.setStatus(CaseStatus.CLOSED);
+
+        // When
+        feed.onCaseChange(CaseChangeDto.created(caseDto));
+        runTasks();
+
+        // Then
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("\"status\":\"CLOSED\""));
+    }
+
+    @Test
+    void testStalledSubscriberDoesNotHoldBackOthers() throws Exception {
+        // Given: a single configured worker, and a client whose writes block until released
+        ThreadPoolTaskExecutor executor = new ExecutorConfig().caseStreamExecutor(1, 10);
+        executor.initialize();
+        CaseChangeFeed streamingFeed = new CaseChangeFeed(
+                new ObjectMapper().registerModule(new JavaTimeModule()), executor, 2, 10, Duration.ofMinutes(1), Duration.ofMillis(100));
+        StalledEmitter stalled = new StalledEmitter();
+        RecordingEmitter recording = new RecordingEmitter();
+        try {
+            streamingFeed.subscribe(stalled);
+            streamingFeed.onCaseChange(CaseChangeDto.updated("CASE-1", 1L));
+            assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+            streamingFeed.subscribe(recording);
+
+            // When
+            streamingFeed.onCaseChange(CaseChangeDto.updated("CASE-2", 2L));
+
+            // Then: the other subscriber still gets the change
+            awaitEvents(recording, 1);
+            assertTrue(recording.events.get(0).contains("\"caseId\":\"CASE-2\""));
+
+            // When: the blocked write outlasts the send timeout
+            Thread.sleep(200);
+            streamingFeed.onCaseChange(CaseChangeDto.updated("CASE-3", 3L));
+
+            // Then: the stalled subscriber is dropped and the other one carries on
+            assertEquals(1, streamingFeed.getSubscriberCount());
+            awaitEvents(recording, 2);
+            assertFalse(stalled.events.stream().anyMatch(event -> event.contains("CASE-3")));
+        } finally {
+            stalled.release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSubscriberLimit() {
+        feed.subscribe(new RecordingEmitter());
+
+        assertThrows(IllegalStateException.class, () -> feed.subscribe(new RecordingEmitter()));
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static void awaitEvents(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (emitter.events.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, emitter.events.size());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    private static class StalledEmitter extends RecordingEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            super.send(builder);
+            sending.countDown();
+            try {
+                // Like a servlet write to a client whose TCP window is full
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
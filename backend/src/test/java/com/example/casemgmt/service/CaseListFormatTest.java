@@ -0,0 +1,99 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.mapping.CaseJsonWriter;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaseListFormatTest {
+    
+    @Test
+    void testCborDecodesToSameCasesAsJsonInAFractionOfTheBytes() throws Exception {
+        // Given
+        List<CaseEntity> cases = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            CaseEntity entity = new CaseEntity();
+            entity.setId(UUID.randomUUID());
+            entity.setCaseId("MCC-CS-REC-P-" + i);
+            entity.setType("MCC");
+            entity.setStatus(CaseStatus.values()[i % CaseStatus.values().length]);
+            entity.setCreatedDate(LocalDateTime.of(2025, 1, 1, 10, 30).plusMinutes(i));
+            entity.setOwner("MCCGBS ANALYST");
+            entity.setBank(i % 2 == 0 ? "Banco do Brasil, S.A." : "Bradesco S.A.");
+            entity.setFineAmount(BigDecimal.valueOf(15000, 2));
+            entity.setComplainantType("Acquirer");
+            entity.setComplainantCountry("BRAZIL");
+            entity.setComplainantRegion("Latin America and the Caribbean");
+            entity.setAcquirerCountry("BRAZIL");
+            entity.setAcquirerRegion("Latin America and the Caribbean");
+            entity.setSubProgram("RECOVERY");
+            entity.setAttachments(List.of("alert-" + i + ".xlsx"));
+            entity.setVersion(0L);
+            cases.add(entity);
+        }
+        
+        // When
+        byte[] json = write(CaseListFormat.JSON, cases);
+        byte[] cbor = write(CaseListFormat.CBOR, cases);
+        
+        // Then
+        JsonNode fromJson = treeMapper(new ObjectMapper()).readTree(json);
+        JsonNode fromCbor = treeMapper(new ObjectMapper(new CBORFactory())).readTree(cbor);
+        assertEquals(fromJson, fromCbor);
+        assertTrue(cbor.length * 2 < json.length, "CBOR " + cbor.length + " bytes vs JSON " + json.length);
+        assertTrue(gzip(cbor) * 10 < json.length, "gzipped CBOR " + gzip(cbor) + " bytes vs JSON " + json.length);
+    }
+    
+    @Test
+    void testNegotiatesCborOnlyWhenPreferred() {
+        assertEquals(CaseListFormat.JSON, CaseListFormat.fromAcceptHeader(null));
+        assertEquals(CaseListFormat.JSON, CaseListFormat.fromAcceptHeader("*/*"));
+        assertEquals(CaseListFormat.JSON, CaseListFormat.fromAcceptHeader("application/json, application/cbor;q=0.5"));
+        assertEquals(CaseListFormat.JSON, CaseListFormat.fromAcceptHeader("not a media type"));
+        assertEquals(CaseListFormat.CBOR, CaseListFormat.fromAcceptHeader("application/cbor"));
+        assertEquals(CaseListFormat.CBOR, CaseListFormat.fromAcceptHeader("application/cbor, */*"));
+    }
+    
+    // CBOR keeps fineAmount as a decimal fraction; compare decimals by value, not by notation
+    private static ObjectMapper treeMapper(ObjectMapper mapper) {
+        return mapper.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, true);
+    }
+    
+    private static int gzip(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+    
+    private static byte[] write(CaseListFormat format, List<CaseEntity> cases) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = format.createGenerator(out)) {
+            generator.writeStartArray();
+            for (CaseEntity entity : cases) {
+                CaseJsonWriter.write(generator, entity, true);
+            }
+            generator.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.config.CacheConfig;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.repository.CaseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CaseServiceCacheTest {
+
+    private static final String CASE_ID = "MCC-CS-REC-P-251001-18783";
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private CaseRepository caseRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.CASES_BY_ID).clear();
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(CASE_ID);
+        entity.setType("MCC");
+        entity.setStatus(CaseStatus.NEW);
+        entity.setOwner("1234");
+        entity.setBank("Banco do Brasil, S.A.");
+        when(caseRepository.findByCaseId(CASE_ID)).thenReturn(Optional.of(entity));
+        when(caseRepository.save(any(CaseEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(caseRepository.saveAndFlush(any(CaseEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void testGetCaseByIdIsCached() {
+        // The cache and its statistics outlive each test, so compare against the counts beforehand
+        double hits = cacheGets("hit");
+        double misses = cacheGets("miss");
+
+        caseService.getCaseById(CASE_ID);
+        caseService.getCaseById(CASE_ID);
+        caseService.getCaseById(CASE_ID);
+
+        verify(caseRepository, times(1)).findByCaseId(CASE_ID);
+        assertEquals(2, cacheGets("hit") - hits);
+        assertEquals(1, cacheGets("miss") - misses);
+    }
+
+    @Test
+    void testMissingCaseIsNotCached() {
+        when(caseRepository.findByCaseId("MISSING")).thenReturn(Optional.empty());
+
+        caseService.getCaseById("MISSING");
+        caseService.getCaseById("MISSING");
+
+        verify(caseRepository, times(2)).findByCaseId("MISSING");
+    }
+
+    @Test
+    void testUpdateRefreshesCachedCase() {
+        caseService.getCaseById(CASE_ID);
+        CaseDto patch = new CaseDto();
+        patch.setStatus(CaseStatus.CLOSED);
+
+        caseService.updateCase(CASE_ID, patch, null);
+
+        assertEquals(CaseStatus.CLOSED, caseService.getCaseById(CASE_ID).orElseThrow().getStatus());
+        verify(caseRepository, times(2)).findByCaseId(CASE_ID);
+    }
+
+    @Test
+    void testUploadEvidenceRefreshesCachedCase() {
+        caseService.getCaseById(CASE_ID);
+
+        String name = caseService.uploadEvidence(CASE_ID, new MockMultipartFile("file", "evidence.pdf", "application/pdf", new byte[] {1})).orElseThrow();
+
+        assertEquals(List.of(name), caseService.getCaseById(CASE_ID).orElseThrow().getAttachments());
+        verify(caseRepository, times(2)).findByCaseId(CASE_ID);
+    }
+
+    @Test
+    void testSlowReadDoesNotReplaceNewerCachedCase() {
+        // Given: a read loads version 3, and an update commits version 4 before that read caches it
+        CaseEntity older = caseEntity(3L, CaseStatus.NEW);
+        CaseEntity newer = caseEntity(4L, CaseStatus.NEW);
+        CaseDto patch = new CaseDto();
+        patch.setStatus(CaseStatus.CLOSED);
+        AtomicBoolean updated = new AtomicBoolean();
+        when(caseRepository.findByCaseId(CASE_ID)).thenAnswer(invocation -> {
+            if (updated.compareAndSet(false, true)) {
+                caseService.updateCase(CASE_ID, patch, null);
+                return Optional.of(older);
+            }
+            return Optional.of(newer);
+        });
+
+        // When
+        caseService.getCaseById(CASE_ID);
+
+        // Then
+        CaseDto cached = caseService.getCaseById(CASE_ID).orElseThrow();
+        assertEquals(4L, cached.getVersion());
+        assertEquals(CaseStatus.CLOSED, cached.getStatus());
+    }
+
+    private static CaseEntity caseEntity(Long version, CaseStatus status) {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(CASE_ID);
+        entity.setType("MCC");
+        entity.setStatus(status);
+        entity.setVersion(version);
+        return entity;
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", CacheConfig.CASES_BY_ID).tag("result", result).functionCounter().count();
+    }
+}
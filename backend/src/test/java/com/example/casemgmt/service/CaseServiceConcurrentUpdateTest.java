@@ -0,0 +1,192 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.repository.CaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CaseServiceConcurrentUpdateTest {
+
+    private static final String CASE_ID = "OCC-1";
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CaseRepository caseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long initialVersion;
+
+    @BeforeEach
+    void setUp() {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(CASE_ID);
+        entity.setType("MCC");
+        entity.setStatus(CaseStatus.OPEN);
+        entity.setOwner("GBSC ANALYST");
+        entity.setBank("Bradesco S.A.");
+        initialVersion = caseRepository.save(entity).getVersion();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM case_evidence WHERE case_id LIKE 'OCC-%'");
+        jdbcTemplate.update("DELETE FROM case_attachments WHERE case_id IN (SELECT id FROM cases WHERE case_id LIKE 'OCC-%')");
+        jdbcTemplate.update("DELETE FROM cases WHERE case_id LIKE 'OCC-%'");
+    }
+
+    @Test
+    void testDisjointStalePatchIsMerged() {
+        // Given
+        CaseDto statusPatch = new CaseDto();
+        statusPatch.setStatus(CaseStatus.CLOSED);
+        caseService.updateCase(CASE_ID, statusPatch, initialVersion);
+
+        // When: a second writer still on the initial version changes a different field
+        CaseDto notesPatch = new CaseDto();
+        notesPatch.setNotes("Acquirer responded");
+        CaseDto result = caseService.updateCase(CASE_ID, notesPatch, initialVersion).orElseThrow();
+
+        // Then
+        assertEquals(CaseStatus.CLOSED, result.getStatus());
+        assertEquals("Acquirer responded", result.getNotes());
+        assertEquals(initialVersion + 2, result.getVersion());
+    }
+
+    @Test
+    void testOverlappingStalePatchConflicts() {
+        // Given
+        CaseDto first = new CaseDto();
+        first.setStatus(CaseStatus.CLOSED);
+        caseService.updateCase(CASE_ID, first, initialVersion);
+
+        // When & Then
+        CaseDto second = new CaseDto();
+        second.setStatus(CaseStatus.HOLD);
+        CaseConflictException conflict = assertThrows(CaseConflictException.class,
+                () -> caseService.updateCase(CASE_ID, second, initialVersion));
+        assertEquals(initialVersion + 1, conflict.getCurrentVersion());
+        assertEquals(CaseStatus.CLOSED, caseRepository.findByCaseId(CASE_ID).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testConcurrentDisjointWritersAllSucceed() throws Exception {
+        // Given
+        int writers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        // When: each writer changes its own field, all based on the same version
+        results.add(executor.submit(() -> update(start, dto -> dto.setNotes("notes"))));
+        results.add(executor.submit(() -> update(start, dto -> dto.setDescription("description"))));
+        results.add(executor.submit(() -> update(start, dto -> dto.setFineAmount(new BigDecimal("250.00")))));
+        results.add(executor.submit(() -> update(start, dto -> dto.setSubProgram("MCC"))));
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+
+        // Then
+        CaseEntity entity = caseRepository.findByCaseId(CASE_ID).orElseThrow();
+        assertEquals("notes", entity.getNotes());
+        assertEquals("description", entity.getDescription());
+        assertEquals(0, new BigDecimal("250.00").compareTo(entity.getFineAmount()));
+        assertEquals("MCC", entity.getSubProgram());
+        assertEquals(initialVersion + writers, entity.getVersion());
+    }
+
+    @Test
+    void testAttachmentRacingUpdatesIsRetried() throws Exception {
+        // Given
+        Path upload = Files.createTempFile("occ-", ".pdf");
+        Files.writeString(upload, "scanned letter " + System.nanoTime());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        // When: the attachment bumps the same version two field updates are racing on
+        results.add(executor.submit(() -> update(start, dto -> dto.setNotes("notes"))));
+        results.add(executor.submit(() -> update(start, dto -> dto.setDescription("description"))));
+        Future<Optional<String>> attached = executor.submit(() -> {
+            start.await();
+            return caseService.attachEvidence(CASE_ID, "letter.pdf", "application/pdf", upload);
+        });
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        String name = attached.get().orElseThrow();
+        executor.shutdown();
+
+        // Then
+        CaseEntity entity = caseRepository.findByCaseId(CASE_ID).orElseThrow();
+        assertEquals(List.of(name), jdbcTemplate.queryForList(
+                "SELECT attachment_filename FROM case_attachments WHERE case_id = ?", String.class, entity.getId()));
+        assertEquals(initialVersion + 3, entity.getVersion());
+        assertTrue(caseService.findEvidence(CASE_ID, name).isPresent());
+        assertFalse(Files.exists(upload));
+    }
+
+    @Test
+    void testUploadIsKeptWhenAttachingFails() throws Exception {
+        // Given
+        Path upload = Files.createTempFile("occ-", ".pdf");
+        Files.writeString(upload, "scanned letter");
+
+        try {
+            // When
+            Optional<String> attached = caseService.attachEvidence("OCC-MISSING", "letter.pdf", "application/pdf", upload);
+
+            // Then: the same file can still be attached by a later attempt
+            assertTrue(attached.isEmpty());
+            assertEquals("scanned letter", Files.readString(upload));
+            assertTrue(caseService.attachEvidence(CASE_ID, "letter.pdf", "application/pdf", upload).isPresent());
+            assertFalse(Files.exists(upload));
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    private void update(CountDownLatch start, Consumer<CaseDto> change) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        CaseDto patch = new CaseDto();
+        change.accept(patch);
+        caseService.updateCase(CASE_ID, patch, initialVersion);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CaseServiceQueryCountTest {
+
+    private static final int CASE_COUNT = 1000;
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<CaseEntity> batch = new ArrayList<>(CASE_COUNT);
+        for (int i = 0; i < CASE_COUNT; i++) {
+            CaseEntity entity = new CaseEntity();
+            entity.setCaseId("NPLUS1-" + i);
+            entity.setType("MCC");
+            entity.setStatus(i % 2 == 0 ? CaseStatus.OPEN : CaseStatus.PENDING);
+            entity.setOwner("GBSC ANALYST");
+            entity.setBank("Bradesco S.A.");
+            entity.setAttachments(new ArrayList<>(List.of("alert-" + i + ".xlsx", "evidence-" + i + ".pdf")));
+            batch.add(entity);
+        }
+        caseService.insertCases(batch);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM case_attachments WHERE case_id IN (SELECT id FROM cases WHERE case_id LIKE 'NPLUS1-%')");
+        jdbcTemplate.update("DELETE FROM cases WHERE case_id LIKE 'NPLUS1-%'");
+    }
+
+    @Test
+    void testGetAllCasesUsesOneStatement() {
+        List<CaseDto> cases = caseService.getAllCases();
+
+        assertTrue(cases.size() >= CASE_COUNT);
+        assertEquals(2, cases.stream().filter(dto -> dto.getCaseId().equals("NPLUS1-7")).findFirst().orElseThrow().getAttachments().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGetCasesByFiltersUsesOneStatement() {
+        List<CaseDto> cases = caseService.getCasesByFilters(CaseStatus.PENDING, null, "GBSC ANALYST", "Bradesco S.A.", null, null);
+
+        assertEquals(CASE_COUNT / 2, cases.size());
+        assertTrue(cases.stream().allMatch(dto -> dto.getAttachments().size() == 2));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testWriteCasesUsesOneStatement() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = caseService.writeCases(CaseStatus.OPEN, null, null, "Bradesco S.A.", null, null, out);
+
+        assertEquals(CASE_COUNT / 2, written);
+        JsonNode cases = objectMapper.readTree(out.toByteArray());
+        assertEquals(CASE_COUNT / 2, cases.size());
+        assertEquals(2, cases.get(0).get("attachments").size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testServiceCallsRecordLatencyAndRows() {
+        // Given
+        Timer timer = meterRegistry.timer("casemgmt.service", "class", CaseService.class.getName(),
+                "method", "getCasesByFilters", "exception", "none");
+        DistributionSummary rows = meterRegistry.summary(CaseService.ROWS_METRIC, "operation", "getCasesByFilters");
+        long calls = timer.count();
+        double returned = rows.totalAmount();
+
+        // When
+        List<CaseDto> cases = caseService.getCasesByFilters(CaseStatus.PENDING, null, null, "Bradesco S.A.", null, null);
+
+        // Then
+        assertEquals(calls + 1, timer.count());
+        assertEquals(returned + cases.size(), rows.totalAmount());
+    }
+}
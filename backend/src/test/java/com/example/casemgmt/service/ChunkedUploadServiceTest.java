@@ -0,0 +1,190 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.AlertImportJobDto;
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.UploadSessionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedUploadServiceTest {
+
+    private static final String CASE_ID = "MCC-CS-REC-P-251001-18783";
+
+    @Mock
+    private CaseService caseService;
+
+    @Mock
+    private AlertImportService alertImportService;
+
+    @InjectMocks
+    private ChunkedUploadService chunkedUploadService;
+
+    @TempDir
+    Path uploadDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(chunkedUploadService, "uploadDir", uploadDir);
+        ReflectionTestUtils.setField(chunkedUploadService, "defaultChunkSize", DataSize.ofMegabytes(8));
+        ReflectionTestUtils.setField(chunkedUploadService, "maxChunkSize", DataSize.ofMegabytes(64));
+        ReflectionTestUtils.setField(chunkedUploadService, "maxSize", DataSize.ofGigabytes(1));
+        ReflectionTestUtils.setField(chunkedUploadService, "maxSessions", 10);
+        ReflectionTestUtils.setField(chunkedUploadService, "sessionTtl", Duration.ofMinutes(5));
+        chunkedUploadService.init();
+    }
+
+    @Test
+    void testParallelOutOfOrderChunksAreHandedToEvidence() throws Exception {
+        // Given
+        byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        when(caseService.getCaseById(CASE_ID)).thenReturn(Optional.of(new CaseDto()));
+        AtomicReference<byte[]> handedOver = new AtomicReference<>();
+        when(caseService.attachEvidence(eq(CASE_ID), eq("scan.pdf"), eq("application/pdf"), any(Path.class))).thenAnswer(invocation -> {
+            handedOver.set(Files.readAllBytes(invocation.getArgument(3)));
+            return Optional.of("evidence_1_scan.pdf");
+        });
+        UploadSessionDto upload = chunkedUploadService.start(request(UploadSessionDto.Purpose.EVIDENCE, "scan.pdf", "application/pdf", 10_000, 3_000L));
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (long offset : new long[] {9_000, 3_000, 0, 6_000}) {
+                writes.add(pool.submit(() -> writeChunk(upload.getUploadId(), content, offset, 3_000)));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        UploadSessionDto done = chunkedUploadService.complete(upload.getUploadId()).orElseThrow();
+
+        // Then
+        assertEquals(4, upload.getChunkCount());
+        assertEquals(UploadSessionDto.Status.COMPLETED, done.getStatus());
+        assertEquals("evidence_1_scan.pdf", done.getAttachmentName());
+        assertArrayEquals(content, handedOver.get());
+        assertEquals(done.getAttachmentName(), chunkedUploadService.complete(upload.getUploadId()).orElseThrow().getAttachmentName());
+    }
+
+    @Test
+    void testCorruptChunkStaysMissingUntilResent() throws Exception {
+        // Given
+        byte[] content = "col1,col2\n1,2\n3,4\n".getBytes(StandardCharsets.UTF_8);
+        UploadSessionDto upload = chunkedUploadService.start(request(UploadSessionDto.Purpose.ALERT, "alerts.csv", "text/csv", content.length, 8L));
+        writeChunk(upload.getUploadId(), content, 0, 8);
+        byte[] corrupt = Arrays.copyOfRange(content, 8, 16);
+        corrupt[0] ^= 1;
+
+        // When & Then
+        assertThrows(UploadChecksumException.class, () -> chunkedUploadService.writeChunk(upload.getUploadId(), 8,
+                new ByteArrayInputStream(corrupt), sha256(Arrays.copyOfRange(content, 8, 16))));
+        assertEquals(List.of(8L, 16L), chunkedUploadService.getUpload(upload.getUploadId()).orElseThrow().getMissingOffsets());
+        assertThrows(IllegalStateException.class, () -> chunkedUploadService.complete(upload.getUploadId()));
+
+        writeChunk(upload.getUploadId(), content, 8, 8);
+        writeChunk(upload.getUploadId(), content, 16, 8);
+        AlertImportJobDto job = new AlertImportJobDto("job-1", "alerts.csv");
+        when(alertImportService.submit(any(Path.class), eq("alerts.csv"))).thenReturn(job);
+        assertEquals("job-1", chunkedUploadService.complete(upload.getUploadId()).orElseThrow().getJobId());
+    }
+
+    @Test
+    void testCorruptResendOfReceivedChunkBlocksCompletion() throws Exception {
+        // Given
+        byte[] content = "col1,col2\n1,2\n3,4\n".getBytes(StandardCharsets.UTF_8);
+        UploadSessionDto upload = chunkedUploadService.start(request(UploadSessionDto.Purpose.ALERT, "alerts.csv", "text/csv", content.length, 8L));
+        writeChunk(upload.getUploadId(), content, 0, 8);
+        writeChunk(upload.getUploadId(), content, 8, 8);
+        writeChunk(upload.getUploadId(), content, 16, 8);
+        byte[] corrupt = Arrays.copyOfRange(content, 8, 16);
+        corrupt[0] ^= 1;
+
+        // When: a resend of the received middle chunk arrives corrupted
+        assertThrows(UploadChecksumException.class, () -> chunkedUploadService.writeChunk(upload.getUploadId(), 8,
+                new ByteArrayInputStream(corrupt), sha256(Arrays.copyOfRange(content, 8, 16))));
+
+        // Then: its bytes on disk are bad, so it is missing again and completing is refused
+        assertEquals(List.of(8L), chunkedUploadService.getUpload(upload.getUploadId()).orElseThrow().getMissingOffsets());
+        assertThrows(IllegalStateException.class, () -> chunkedUploadService.complete(upload.getUploadId()));
+    }
+
+    @Test
+    void testAbortDeletesPartialFile() throws Exception {
+        // Given
+        UploadSessionDto upload = chunkedUploadService.start(request(UploadSessionDto.Purpose.ALERT, "alerts.csv", "text/csv", 100, null));
+
+        // When
+        boolean aborted = chunkedUploadService.abort(upload.getUploadId());
+
+        // Then: the file is deleted by the session's removal listener, which runs asynchronously
+        assertTrue(aborted);
+        assertFalse(chunkedUploadService.getUpload(upload.getUploadId()).isPresent());
+        for (int attempt = 0; attempt < 100 && Files.list(uploadDir).findAny().isPresent(); attempt++) {
+            Thread.sleep(20);
+        }
+        assertFalse(Files.list(uploadDir).findAny().isPresent());
+        assertThrows(IllegalArgumentException.class, () -> chunkedUploadService.start(
+                request(UploadSessionDto.Purpose.ALERT, "alerts.pdf", "application/pdf", 100, null)));
+    }
+
+    private Object writeChunk(String uploadId, byte[] content, long offset, int chunkSize) throws Exception {
+        byte[] chunk = Arrays.copyOfRange(content, (int) offset, (int) Math.min(content.length, offset + chunkSize));
+        return chunkedUploadService.writeChunk(uploadId, offset, new ByteArrayInputStream(chunk), sha256(chunk)).orElseThrow();
+    }
+
+    private static UploadSessionDto request(UploadSessionDto.Purpose purpose, String filename, String contentType, long size, Long chunkSize) {
+        UploadSessionDto request = new UploadSessionDto();
+        request.setPurpose(purpose);
+        request.setCaseId(CASE_ID);
+        request.setFilename(filename);
+        request.setContentType(contentType);
+        request.setSize(size);
+        request.setChunkSize(chunkSize);
+        return request;
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.EmailDispatchDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.repository.CaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatchServiceTest {
+
+    @Mock
+    private CaseRepository caseRepository;
+
+    @Mock
+    private BankEmailSender bankEmailSender;
+
+    @InjectMocks
+    private EmailDispatchService emailDispatchService;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.initialize();
+        ReflectionTestUtils.setField(emailDispatchService, "emailDispatchExecutor", executor);
+        ReflectionTestUtils.setField(emailDispatchService, "perBankConcurrency", 2);
+        ReflectionTestUtils.setField(emailDispatchService, "perBankQueue", 10);
+        ReflectionTestUtils.setField(emailDispatchService, "retainedDispatches", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testPerBankConcurrencyLimit() throws Exception {
+        // Given
+        when(caseRepository.findByCaseId(anyString())).thenAnswer(invocation -> Optional.of(caseFor(invocation.getArgument(0))));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        when(bankEmailSender.send(anyString(), anyString())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            release.await(5, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            return "sent";
+        });
+
+        // When
+        List<EmailDispatchDto> dispatches = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            dispatches.add(emailDispatchService.submit("CASE-" + i).orElseThrow());
+        }
+        Thread.sleep(200);
+        int concurrentWhileBlocked = inFlight.get();
+        release.countDown();
+
+        // Then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatches.stream().anyMatch(dispatch -> !dispatch.isFinished()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(2, concurrentWhileBlocked);
+        assertEquals(2, maxInFlight.get());
+        assertTrue(dispatches.stream().allMatch(dispatch -> dispatch.getStatus() == EmailDispatchDto.Status.SENT));
+    }
+
+    @Test
+    void testPerBankQueueLimit() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(emailDispatchService, "perBankQueue", 2);
+        when(caseRepository.findByCaseId(anyString())).thenAnswer(invocation -> Optional.of(caseFor(invocation.getArgument(0))));
+        CountDownLatch release = new CountDownLatch(1);
+        when(bankEmailSender.send(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "sent";
+        });
+
+        try {
+            // When: two sends in flight and two waiting
+            for (int i = 0; i < 4; i++) {
+                emailDispatchService.submit("CASE-" + i).orElseThrow();
+            }
+
+            // Then
+            assertThrows(TaskRejectedException.class, () -> emailDispatchService.submit("CASE-4"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testSubmitUnknownCase() {
+        when(caseRepository.findByCaseId("MISSING")).thenReturn(Optional.empty());
+
+        assertTrue(emailDispatchService.submit("MISSING").isEmpty());
+    }
+
+    private CaseEntity caseFor(String caseId) {
+        CaseEntity entity = new CaseEntity();
+        entity.setCaseId(caseId);
+        entity.setBank("Bradesco S.A.");
+        return entity;
+    }
+}
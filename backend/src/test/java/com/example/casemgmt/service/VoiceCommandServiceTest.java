@@ -0,0 +1,71 @@
+package com.example.casemgmt.service;
+
+import com.example.casemgmt.dto.CaseDto;
+import com.example.casemgmt.dto.VoicePlanDto;
+import com.example.casemgmt.model.CaseStatus;
+import com.example.casemgmt.voice.VoicePlanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoiceCommandServiceTest {
+
+    @Spy
+    private VoicePlanner voicePlanner = new VoicePlanner("/api");
+
+    @Mock
+    private CaseService caseService;
+
+    @InjectMocks
+    private VoiceCommandService voiceCommandService;
+
+    @Test
+    void testListCommandsQueryCasesWithStatusAndOwner() {
+        // Given
+        CaseDto pending = new CaseDto();
+        pending.setCaseId("MCC-CS-REC-P-251001-18783");
+        when(caseService.getCasesByFilters(CaseStatus.PENDING, null, "Ana Souza", null, null, null)).thenReturn(List.of(pending));
+        when(caseService.getCasesByFilters(CaseStatus.HOLD, null, null, null, null, null)).thenReturn(List.of());
+
+        // When
+        VoicePlanDto mine = voiceCommandService.execute("show my pending cases", "Ana Souza");
+        VoicePlanDto onHold = voiceCommandService.execute("filter status hold", null);
+
+        // Then
+        assertEquals(List.of(pending), mine.getCases());
+        assertEquals("pending", mine.getPlan().get(0).getValue());
+        assertEquals(List.of(), onHold.getCases());
+    }
+
+    @Test
+    void testEmailCommandLoadsCaseButDoesNotSend() {
+        // Given
+        CaseDto found = new CaseDto();
+        found.setCaseId("MCC-CS-REC-P-251001-18783");
+        when(caseService.getCaseById("MCC-CS-REC-P-251001-18783")).thenReturn(Optional.of(found));
+
+        // When
+        VoicePlanDto email = voiceCommandService.execute("email bank for case MCC-CS-REC-P-251001-18783", null);
+        VoicePlanDto mine = voiceCommandService.execute("show my cases", null);
+
+        // Then
+        assertEquals(List.of(found), email.getCases());
+        assertEquals("api", email.getPlan().get(0).getKind());
+        assertNull(mine.getCases());
+        verify(caseService, never()).getCasesByFilters(any(), any(), any(), any(), any(), any());
+    }
+}
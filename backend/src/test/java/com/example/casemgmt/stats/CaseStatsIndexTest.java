@@ -0,0 +1,84 @@
+package com.example.casemgmt.stats;
+
+import com.example.casemgmt.dto.CaseStatsDto;
+import com.example.casemgmt.model.CaseEntity;
+import com.example.casemgmt.model.CaseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CaseStatsIndexTest {
+
+    private final CaseStatsIndex index = new CaseStatsIndex();
+
+    @Test
+    void testGroupsCountsAndSums() {
+        // Given
+        index.apply(snapshot(UUID.randomUUID(), 0, CaseStatus.PENDING, "Itau", "100.50"));
+        index.apply(snapshot(UUID.randomUUID(), 0, CaseStatus.PENDING, "Itau", "20.25"));
+        index.apply(snapshot(UUID.randomUUID(), 0, CaseStatus.PENDING, "Bradesco S.A.", null));
+        index.apply(snapshot(UUID.randomUUID(), 0, CaseStatus.CLOSED, "Itau", "5"));
+
+        // When
+        CaseStatsDto stats = index.query(EnumSet.of(CaseDimension.STATUS, CaseDimension.BANK), true);
+
+        // Then
+        assertEquals(4, stats.getTotalCount());
+        assertEquals(new BigDecimal("125.75"), stats.getTotalFineAmount());
+        assertEquals(3, stats.getGroups().size());
+        CaseStatsDto.Group largest = stats.getGroups().get(0);
+        assertEquals(Map.of("status", "PENDING", "bank", "Itau"), largest.getKeys());
+        assertEquals(2, largest.getCount());
+        assertEquals(new BigDecimal("120.75"), largest.getFineAmount());
+    }
+
+    @Test
+    void testUpdateMovesCaseBetweenGroups() {
+        // Given
+        UUID id = UUID.randomUUID();
+        index.apply(snapshot(id, 0, CaseStatus.OPEN, "Itau", "10"));
+
+        // When
+        index.apply(snapshot(id, 1, CaseStatus.CLOSED, "Itau", "10"));
+        index.apply(snapshot(id, 0, CaseStatus.HOLD, "Itau", "10"));
+
+        // Then: the stale version-0 snapshot is ignored
+        CaseStatsDto stats = index.query(EnumSet.of(CaseDimension.STATUS), false);
+        assertEquals(1, stats.getGroups().size());
+        assertEquals("CLOSED", stats.getGroups().get(0).getKeys().get("status"));
+        assertNull(stats.getGroups().get(0).getFineAmount());
+    }
+
+    @Test
+    void testRemoveDropsEmptyGroups() {
+        // Given
+        UUID id = UUID.randomUUID();
+        index.apply(snapshot(id, 0, CaseStatus.NEW, "Itau", null));
+
+        // When
+        index.remove(id);
+
+        // Then
+        CaseStatsDto stats = index.query(EnumSet.of(CaseDimension.BANK), false);
+        assertEquals(0, stats.getTotalCount());
+        assertEquals(0, stats.getGroups().size());
+    }
+
+    private CaseStatsIndex.Snapshot snapshot(UUID id, long version, CaseStatus status, String bank, String fineAmount) {
+        CaseEntity entity = new CaseEntity();
+        entity.setId(id);
+        entity.setVersion(version);
+        entity.setStatus(status);
+        entity.setType("MCC");
+        entity.setOwner("GBSC ANALYST");
+        entity.setBank(bank);
+        entity.setFineAmount(fineAmount != null ? new BigDecimal(fineAmount) : null);
+        return index.snapshot(entity);
+    }
+}
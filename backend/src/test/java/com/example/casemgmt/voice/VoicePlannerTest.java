@@ -0,0 +1,83 @@
+package com.example.casemgmt.voice;
+
+import com.example.casemgmt.dto.VoicePlanDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VoicePlannerTest {
+
+    // The detectors from voice-agent-server intents.js, in definition order
+    private static final Map<VoiceIntent, Pattern> NODE_PATTERNS = new LinkedHashMap<>();
+
+    static {
+        NODE_PATTERNS.put(VoiceIntent.LIST_CASES_PENDING, Pattern.compile("(show|list).*(pending|open).*cases", Pattern.CASE_INSENSITIVE));
+        NODE_PATTERNS.put(VoiceIntent.LIST_CASES_MINE, Pattern.compile("(show|list).*(my).*cases", Pattern.CASE_INSENSITIVE));
+        NODE_PATTERNS.put(VoiceIntent.FILTER_STATUS, Pattern.compile("(filter).*(status)\\s*(\\w+)", Pattern.CASE_INSENSITIVE));
+        NODE_PATTERNS.put(VoiceIntent.UPLOAD_FILE, Pattern.compile("(upload).*(excel|file|evidence)", Pattern.CASE_INSENSITIVE));
+        NODE_PATTERNS.put(VoiceIntent.EMAIL_BANK_FOR_CASE, Pattern.compile("(email|mail).*(bank).*(case)\\s*([\\w-]+)", Pattern.CASE_INSENSITIVE));
+    }
+
+    private final VoicePlanner voicePlanner = new VoicePlanner("/api");
+
+    @Test
+    void testIntentsMatchNodeDetectors() {
+        // Given
+        List<String> commands = List.of(
+                "show pending cases", "List open cases please", "show me my pending cases", "Show my cases",
+                "list cases assigned to me", "filter by status open", "filter status", "Filter the STATUS  closed",
+                "upload excel file", "Upload evidence for this case", "email bank for case 123",
+                "mail bank case MCC-CS-REC-P-251001-18783", "email the bank about case", "send case to bank by email",
+                "cases pending show", "showing open casework", "what is the weather", "");
+
+        // When & Then
+        for (String command : commands) {
+            assertEquals(nodeIntent(command), voicePlanner.detectIntent(command), command);
+        }
+    }
+
+    @Test
+    void testPlanSubstitutesEntities() {
+        // When
+        VoicePlanDto filter = voicePlanner.plan("Filter by status Approved");
+        VoicePlanDto email = voicePlanner.plan("email bank for case MCC-CS-REC-P-251001-18783");
+
+        // Then
+        assertEquals("FILTER_STATUS", filter.getIntent().getName());
+        assertEquals("approved", filter.getEntities().get("status"));
+        assertEquals("approved", filter.getPlan().get(0).getValue());
+        assertEquals("Filtered status to approved", filter.getPlan().get(0).getSuccessMessage());
+        assertEquals("MCC-CS-REC-P-251001-18783", email.getEntities().get("caseId"));
+        assertEquals("/api/cases/MCC-CS-REC-P-251001-18783/email", email.getPlan().get(0).getUrl());
+        assertEquals("POST", email.getPlan().get(0).getMethod());
+    }
+
+    @Test
+    void testUnresolvedPlaceholdersAndUnknownIntent() {
+        // When
+        VoicePlanDto filter = voicePlanner.plan("filter status soon");
+        VoicePlanDto upload = voicePlanner.plan("upload evidence");
+        VoicePlanDto unknown = voicePlanner.plan("what is the weather");
+
+        // Then
+        assertEquals("{{entities.status}}", filter.getPlan().get(0).getValue());
+        assertEquals(Map.of("type", "file"), upload.getPlan().get(0).getValue());
+        assertEquals("UNKNOWN", unknown.getIntent().getName());
+        assertEquals("noop", unknown.getPlan().get(0).getKind());
+    }
+
+    private static VoiceIntent nodeIntent(String command) {
+        VoiceIntent best = VoiceIntent.UNKNOWN;
+        for (Map.Entry<VoiceIntent, Pattern> entry : NODE_PATTERNS.entrySet()) {
+            if (entry.getValue().matcher(command).find() && entry.getKey().getConfidence() > best.getConfidence()) {
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+}
@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { VoiceAgent } from 'voice-agent-lib';
 import { BrowserRouter as Router, Routes, Route } from 'react-router-dom';
 import Header from './components/Header';
@@ -32,6 +32,37 @@ function App() {
     loadCases();
   }, [filters]);
 
+  // The change feed handler outlives renders, so it reads what is on screen through refs
+  const casesRef = useRef(cases);
+  const selectedCaseRef = useRef(selectedCase);
+  casesRef.current = cases;
+  selectedCaseRef.current = selectedCase;
+
+  // Apply pushed changes instead of re-fetching the whole list after every action
+  useEffect(() => {
+    const applyCase = (caseData) => {
+      setCases(current => current.some(c => c.caseId === caseData.caseId)
+        ? current.map(c => c.caseId === caseData.caseId ? caseData : c)
+        : current);
+      setSelectedCase(current => current && current.caseId === caseData.caseId ? caseData : current);
+    };
+    const isShown = (caseId) => casesRef.current.some(c => c.caseId === caseId)
+      || (selectedCaseRef.current && selectedCaseRef.current.caseId === caseId);
+
+    return CaseService.subscribeToCaseChanges((change) => {
+      if (change.data) {
+        applyCase(change.data);
+      } else if (change.type === 'CREATED') {
+        loadCases();
+      } else if (isShown(change.caseId)) {
+        // Bulk updates and attachment uploads only name the case, so fetch the new state
+        CaseService.getCase(change.caseId)
+          .then(applyCase)
+          .catch(error => console.error('Error refreshing case:', error));
+      }
+    }, () => loadCases());
+  }, [filters]);
+
   const loadCases = async () => {
     try {
       setLoading(true);
@@ -2,6 +2,9 @@ import axios from 'axios';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/api';
 
+// How long the case feed waits for a burst of list-wide changes to end before reloading
+const RESYNC_DEBOUNCE_MS = 1000;
+
 const apiClient = axios.create({
   baseURL: API_BASE_URL,
   timeout: 10000,
@@ -34,6 +37,16 @@ apiClient.interceptors.response.use(
   }
 );
 
+// Files above this size go through the resumable chunked upload API
+const CHUNKED_UPLOAD_THRESHOLD = 8 * 1024 * 1024;
+const UPLOAD_PARALLELISM = 4;
+const CHUNK_ATTEMPTS = 3;
+
+const sha256Hex = async (blob) => {
+  const digest = await crypto.subtle.digest('SHA-256', await blob.arrayBuffer());
+  return Array.from(new Uint8Array(digest), (b) => b.toString(16).padStart(2, '0')).join('');
+};
+
 export class CaseService {
   
   static async getCases(filters = {}) {
@@ -96,8 +109,54 @@ export class CaseService {
     }
   }
   
+  // Sends a large file as parallel checksummed chunks, resending only what is missing
+  static async uploadInChunks(purpose, file, caseId) {
+    const { data: started } = await apiClient.post('/uploads', {
+      purpose,
+      caseId,
+      filename: file.name,
+      contentType: file.type,
+      size: file.size,
+    });
+    const { uploadId, chunkSize } = started;
+    let missing = started.missingOffsets;
+    for (let attempt = 1; missing.length > 0; attempt++) {
+      if (attempt > CHUNK_ATTEMPTS) {
+        throw new Error(`Upload ${uploadId} is still missing ${missing.length} chunks`);
+      }
+      const queue = [...missing];
+      const worker = async () => {
+        while (queue.length > 0) {
+          const offset = queue.shift();
+          const chunk = file.slice(offset, offset + chunkSize);
+          try {
+            await apiClient.put(`/uploads/${uploadId}/chunks/${offset}`, chunk, {
+              headers: {
+                'Content-Type': 'application/octet-stream',
+                'X-Chunk-SHA256': await sha256Hex(chunk),
+              },
+              timeout: 0,
+            });
+          } catch (error) {
+            // Left for the next round, which asks the server what is still missing
+            console.warn(`Chunk at offset ${offset} failed:`, error.message);
+          }
+        }
+      };
+      await Promise.all(Array.from({ length: UPLOAD_PARALLELISM }, worker));
+      ({ missingOffsets: missing } = (await apiClient.get(`/uploads/${uploadId}`)).data);
+    }
+    const { data: completed } = await apiClient.post(`/uploads/${uploadId}/complete`, null, { timeout: 0 });
+    return completed;
+  }
+  
   static async uploadEvidence(caseId, file) {
     try {
+      if (file.size > CHUNKED_UPLOAD_THRESHOLD) {
+        const completed = await CaseService.uploadInChunks('EVIDENCE', file, caseId);
+        return { filename: completed.attachmentName, message: 'File uploaded successfully' };
+      }
+      
       const formData = new FormData();
       formData.append('file', file);
       
@@ -113,8 +172,22 @@ export class CaseService {
     }
   }
   
+  static attachmentUrl(caseId, name) {
+    return `${API_BASE_URL}/cases/${encodeURIComponent(caseId)}/attachments/${encodeURIComponent(name)}`;
+  }
+  
   static async uploadAlertFile(file) {
     try {
+      if (file.size > CHUNKED_UPLOAD_THRESHOLD) {
+        const completed = await CaseService.uploadInChunks('ALERT', file);
+        return {
+          message: 'Alert file accepted for processing',
+          jobId: completed.jobId,
+          status: 'QUEUED',
+          filename: file.name,
+        };
+      }
+      
       const formData = new FormData();
       formData.append('file', file);
       
@@ -129,6 +202,37 @@ export class CaseService {
       throw new Error('Failed to upload alert file');
     }
   }
+  
+  static async getImportJob(jobId) {
+    try {
+      const response = await apiClient.get(`/cases/import-jobs/${jobId}`);
+      return response.data;
+    } catch (error) {
+      console.error('Error fetching import job:', error);
+      throw new Error('Failed to fetch import job status');
+    }
+  }
+  
+  // Opens the live case change feed; returns a function that closes it
+  static subscribeToCaseChanges(onChange, onResync) {
+    const source = new EventSource(`${API_BASE_URL}/cases/stream`);
+    ['CREATED', 'UPDATED', 'ATTACHMENT_ADDED'].forEach((type) => {
+      source.addEventListener(type, (event) => onChange(JSON.parse(event.data)));
+    });
+    // Bulk imports and missed events both mean the local list is stale; a burst of them
+    // only needs one reload, so wait for it to settle
+    let resyncTimer = null;
+    const scheduleResync = () => {
+      clearTimeout(resyncTimer);
+      resyncTimer = setTimeout(onResync, RESYNC_DEBOUNCE_MS);
+    };
+    source.addEventListener('IMPORTED', scheduleResync);
+    source.addEventListener('overflow', scheduleResync);
+    return () => {
+      clearTimeout(resyncTimer);
+      source.close();
+    };
+  }
 }
 
 export default CaseService;
@@ -1,5 +1,6 @@
 import React, { useState } from 'react';
 import { Link } from 'react-router-dom';
+import CaseService from '../api/api';
 
 // Use UI image: case-details.png for case details layout
 // Based on the case details panel showing overview and initiation sections
@@ -349,7 +350,7 @@ const CaseDetails = ({
                             {caseItem.attachments.map((attachment, index) => (
                               <li key={index} className="attachment-item">
                                 <span className="attachment-name">{attachment}</span>
-                                <button className="download-btn">Download</button>
+                                <a className="download-btn" href={CaseService.attachmentUrl(caseItem.caseId, attachment)} download>Download</a>
                               </li>
                             ))}
                           </ul>
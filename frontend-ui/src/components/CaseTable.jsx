@@ -123,13 +123,24 @@ const CaseTable = ({
 
     setIsUploading(true);
     try {
-      // Send file to backend for processing
+      // Send file to backend; it is imported in the background as a job
       const response = await CaseService.uploadAlertFile(uploadedFile);
       
-      console.log('File processed successfully:', response);
+      // Poll the import job until it finishes
+      let job = await CaseService.getImportJob(response.jobId);
+      while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+        await new Promise(resolve => setTimeout(resolve, 1000));
+        job = await CaseService.getImportJob(response.jobId);
+      }
+      
+      console.log('File processed:', job);
+      if (job.status === 'FAILED') {
+        throw new Error(job.failureMessage);
+      }
       
       // Show success message
-      alert(`Successfully created ${response.casesCreated} cases from ${response.filename}`);
+      alert(`Successfully created ${job.rowsInserted} cases from ${job.filename}` +
+        (job.rowsRejected > 0 ? ` (${job.rowsRejected} rows rejected)` : ''));
       
       // Close modal and reset state
       setShowUploadModal(false);